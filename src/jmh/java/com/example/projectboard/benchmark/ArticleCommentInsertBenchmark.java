@@ -0,0 +1,79 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.UserAccountRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 대량 insert 처리량 벤치마크. JDBC 배치 크기 0(배치 없음)과 50 을 비교한다.
+ * 매 호출은 flush 까지 한 뒤 롤백하므로 DB 크기는 그대로다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class ArticleCommentInsertBenchmark {
+
+    private static final int COMMENTS_PER_CALL = 1_000;
+
+    @Param({"0", "50"})
+    private int jdbcBatchSize;
+
+    private BenchmarkContext context;
+    private TransactionTemplate transactionTemplate;
+    private ArticleCommentRepository articleCommentRepository;
+    private EntityManager entityManager;
+    private Article article;
+    private UserAccount userAccount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(1_000, false, "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        articleCommentRepository = context.getBean(ArticleCommentRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        article = context.getBean(ArticleRepository.class).findById(1L).orElseThrow();
+        userAccount = context.getBean(UserAccountRepository.class).findById("user1").orElseThrow();
+
+        // 생성자/수정자 감사 필드를 채우기 위해 로그인 상태로 만든다. 벤치마크 스레드가 달라도 보이도록 전역 전략을 쓴다.
+        BoardPrincipal principal = BoardPrincipal.from(UserAccountDto.from(userAccount));
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, principal.getPassword(), principal.getAuthorities())
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS_PER_CALL)
+    public int saveComments() {
+        return transactionTemplate.execute(status -> {
+            List<ArticleComment> articleComments = new ArrayList<>(COMMENTS_PER_CALL);
+            for (int i = 0; i < COMMENTS_PER_CALL; i++) {
+                articleComments.add(ArticleComment.of(article, userAccount, "댓글 " + i));
+            }
+            articleCommentRepository.saveAll(articleComments);
+            entityManager.flush();
+            status.setRollbackOnly();
+
+            return articleComments.size();
+        });
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleCursor;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleSummaryDto;
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.bulk.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 게시글 조회 경로 벤치마크. 검색 색인 사용 여부에 따라 검색 전략을 비교한다.
+ */
+@State(Scope.Benchmark)
+public class ArticleServiceBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+    private static final Pageable COMMENT_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Param({"10000"})
+    private int articleCount;
+
+    @Param({"false", "true"})
+    private boolean searchIndexEnabled;
+
+    private BenchmarkContext context;
+    private ArticleService articleService;
+    private Pageable deepPage;
+    private ArticleCursor deepCursor;
+    private long hottestArticleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(articleCount, searchIndexEnabled);
+        articleService = context.getBean(ArticleService.class);
+        hottestArticleId = context.data().hottestArticleId();
+
+        int deepPageNumber = articleCount / 10 / 2;
+        deepPage = PageRequest.of(deepPageNumber, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        ArticleSummaryDto deepArticle = articleService.searchArticles(null, null, deepPage).getContent().get(0);
+        deepCursor = new ArticleCursor(deepArticle.createdAt(), deepArticle.id());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ArticleSummaryDto> searchFirstPage() {
+        return articleService.searchArticles(null, null, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<ArticleSummaryDto> searchDeepPageByOffset() {
+        return articleService.searchArticles(null, null, deepPage);
+    }
+
+    @Benchmark
+    public Slice<ArticleDto> searchDeepPageByCursor() {
+        return articleService.searchOlderArticles(deepCursor, 10);
+    }
+
+    @Benchmark
+    public Page<ArticleSummaryDto> searchByTitle() {
+        return articleService.searchArticles(SearchType.TITLE, SyntheticDataGenerator.TITLE_WORDS.get(0), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<ArticleSummaryDto> searchByContent() {
+        return articleService.searchArticles(SearchType.CONTENT, "게시판", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<ArticleSummaryDto> searchByHashtag() {
+        return articleService.searchArticles(SearchType.HASHTAG, "tag1", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto getHottestArticleWithComments() {
+        return articleService.getArticleWithComments(hottestArticleId, COMMENT_PAGE);
+    }
+
+}
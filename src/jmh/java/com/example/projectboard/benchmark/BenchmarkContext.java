@@ -0,0 +1,88 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.ProjectBoardApplication;
+import com.example.projectboard.config.BulkLoadConfig.BulkLoadProperties;
+import com.example.projectboard.service.bulk.SyntheticDataGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * H2 메모리 DB 로 애플리케이션을 띄우고 시드 데이터를 넣는다.
+ * 시드는 {@link ApplicationStartedEvent} 에서 넣으므로, 검색 색인과 게시글 수 같은 기동 시 적재 작업이 시드 데이터를 대상으로 돈다.
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    private static final long SEED = 20230201L;
+
+    private final ConfigurableApplicationContext context;
+    private SyntheticDataGenerator.Result data;
+
+    private BenchmarkContext(
+            int articleCount,
+            boolean searchIndexEnabled,
+            ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+            String... properties
+    ) {
+        this.context = new SpringApplicationBuilder(ProjectBoardApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + articleCount + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=warn",
+                        "logging.level.com.example.projectboard=warn",
+                        "logging.level.org.springframework.web.servlet=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                        "board.search.index-enabled=" + searchIndexEnabled
+                )
+                .properties(properties)
+                .initializers(initializer)
+                .listeners((ApplicationListener<ApplicationStartedEvent>) event -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(event.getApplicationContext().getBean(DataSource.class));
+                    BulkLoadProperties properties = new BulkLoadProperties(100, articleCount, 200, articleCount * 5L, 1.1, 1_000, SEED);
+                    data = new SyntheticDataGenerator(jdbcTemplate, properties).generate();
+                })
+                .run();
+    }
+
+    public static BenchmarkContext start(int articleCount, boolean searchIndexEnabled, String... properties) {
+        return new BenchmarkContext(articleCount, searchIndexEnabled, context -> {}, properties);
+    }
+
+    public static BenchmarkContext start(
+            int articleCount,
+            boolean searchIndexEnabled,
+            ApplicationContextInitializer<ConfigurableApplicationContext> initializer,
+            String... properties
+    ) {
+        return new BenchmarkContext(articleCount, searchIndexEnabled, initializer, properties);
+    }
+
+    public int localPort() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public SyntheticDataGenerator.Result data() {
+        return data;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 달린 게시글의 엔티티 -> DTO -> 응답 변환 벤치마크. DB 없이 메모리 엔티티로 측정한다.
+ */
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int commentCount;
+
+    private Article article;
+    private ArticleWithCommentsDto articleWithCommentsDto;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        UserAccount userAccount = UserAccount.of("uno", "password", "uno@mail.com", "Uno", null);
+        article = Article.of(userAccount, "title", "content", "#java");
+        setField(article, "id", 1L);
+        setField(article, "createdAt", LocalDateTime.now());
+        for (long commentId = 1; commentId <= commentCount; commentId++) {
+            ArticleComment articleComment = ArticleComment.of(article, userAccount, "댓글 " + commentId);
+            setField(articleComment, "id", commentId);
+            setField(articleComment, "createdAt", LocalDateTime.now().minusSeconds(commentId));
+            article.getArticleComments().add(articleComment);
+        }
+        articleWithCommentsDto = ArticleWithCommentsDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto articleWithCommentsDtoFrom() {
+        return ArticleWithCommentsDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse articleWithCommentsResponseFrom() {
+        return ArticleWithCommentsResponse.from(articleWithCommentsDto);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse entityToResponse() {
+        return ArticleWithCommentsResponse.from(ArticleWithCommentsDto.from(article));
+    }
+
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+}
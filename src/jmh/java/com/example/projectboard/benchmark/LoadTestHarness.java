@@ -0,0 +1,211 @@
+package com.example.projectboard.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기존 모드(Tomcat 플랫폼 스레드 풀)와 가상 스레드 모드의 처리량, 지연 시간을 비교하는 부하 테스트.
+ * 같은 JVM 에서 두 모드로 차례로 애플리케이션을 띄우고, 같은 수의 클라이언트가 같은 페이지를 일정 시간 동안 계속 요청한다.
+ * 느린 MySQL 을 흉내 내도록 조회 쿼리마다 {@code queryLatency} 만큼 기다린다. 가상 스레드 모드는 Java 21 이상에서만 돈다.
+ * 처리량 차이가 커넥션 풀 크기에서 오지 않도록 두 모드 모두 {@code poolSize}(기본 100) 커넥션 풀을 쓴다.
+ * {@code -PpoolSize=profile} 을 주면 각 프로필에 설정된 풀 크기(기본 10, virtual-threads 100)를 그대로 쓴다.
+ * <p>
+ * 실행: ./gradlew loadTest -PvirtualThreads -Pconcurrency=500 -PqueryLatency=PT0.05S
+ */
+public class LoadTestHarness {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 500);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadTest.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadTest.warmup", "PT10S"));
+    private static final Duration QUERY_LATENCY = Duration.parse(System.getProperty("loadTest.queryLatency", "PT0.05S"));
+    private static final int ARTICLE_COUNT = Integer.getInteger("loadTest.articleCount", 10_000);
+    private static final String PATH = System.getProperty("loadTest.path", "/articles");
+    private static final String POOL_SIZE = System.getProperty("loadTest.poolSize", "100"); // 두 모드에 같은 커넥션 풀 크기를 쓴다. "profile" 이면 프로필 설정을 따른다
+
+    public static void main(String[] args) throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.add(run("platform-threads"));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run("virtual-threads"));
+        } else {
+            System.out.println("Java " + Runtime.version() + " 에서는 가상 스레드 모드를 건너뜁니다. -PvirtualThreads 로 Java 21 툴체인을 쓰세요.");
+        }
+
+        System.out.printf("%n동시 요청: %d, 측정 시간: %s, 쿼리 지연: %s, 경로: %s, 커넥션 풀: %s%n", CONCURRENCY, DURATION, QUERY_LATENCY, PATH, POOL_SIZE);
+        System.out.printf("%-18s %10s %12s %10s %10s %10s %8s%n", "mode", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        results.forEach(Result::print);
+    }
+
+
+    private static Result run(String mode) throws Exception {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.profiles.active=" + ("virtual-threads".equals(mode) ? "virtual-threads" : "default"),
+                "board.rendered-page-cache.enabled=false" // 매 요청이 DB 까지 가도록
+        ));
+        if (!"profile".equals(POOL_SIZE)) {
+            properties.add("spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE);
+            properties.add("spring.datasource.hikari.minimum-idle=" + POOL_SIZE);
+        }
+
+        try (BenchmarkContext context = BenchmarkContext.start(ARTICLE_COUNT, true, slowQueries(QUERY_LATENCY), properties.toArray(String[]::new))) {
+            URI uri = URI.create("http://localhost:" + context.localPort() + PATH);
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            load(client, uri, WARMUP);
+            return Result.of(mode, load(client, uri, DURATION), DURATION);
+        }
+    }
+
+    /**
+     * 클라이언트 스레드 {@code CONCURRENCY} 개가 {@code duration} 동안 응답을 받자마자 다음 요청을 보낸다.
+     * 클라이언트 쪽은 두 모드 모두 플랫폼 스레드를 써서 비교 조건을 같게 한다.
+     */
+    private static Samples load(HttpClient client, URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - startedAt;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            List<long[]> latencies = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+            return Samples.of(latencies, errors.get());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * 조회 쿼리마다 {@code latency} 만큼 기다리는 DataSource 로 바꿔 느린 DB 를 흉내 낸다.
+     */
+    private static ApplicationContextInitializer<ConfigurableApplicationContext> slowQueries(Duration latency) {
+        return context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || latency.isZero()) {
+                    return bean;
+                }
+
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return slowConnection(super.getConnection(), latency);
+                    }
+                };
+            }
+        });
+    }
+
+    private static Connection slowConnection(Connection connection, Duration latency) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return method.getName().equals("prepareStatement") ? slowStatement((PreparedStatement) result, latency) : result;
+        });
+    }
+
+    private static PreparedStatement slowStatement(PreparedStatement statement, Duration latency) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+            if (method.getName().equals("executeQuery")) {
+                Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+
+    private record Samples(long[] latencies, long errors) {
+
+        static Samples of(List<long[]> latencies, long errors) {
+            long[] merged = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Samples(merged, errors);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+    }
+
+    private record Result(String mode, Samples samples, Duration duration) {
+
+        static Result of(String mode, Samples samples, Duration duration) {
+            return new Result(mode, samples, duration);
+        }
+
+        void print() {
+            System.out.printf("%-18s %10d %12.1f %10.1f %10.1f %10.1f %8d%n",
+                    mode,
+                    samples.latencies().length,
+                    samples.latencies().length / (duration.toMillis() / 1000.0),
+                    samples.percentileMillis(0.50),
+                    samples.percentileMillis(0.99),
+                    samples.percentileMillis(1.0),
+                    samples.errors()
+            );
+        }
+
+    }
+
+}
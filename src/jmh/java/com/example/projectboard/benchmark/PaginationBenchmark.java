@@ -0,0 +1,30 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.service.PaginationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 페이지 바 번호 계산 벤치마크.
+ */
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+    @Param({"10", "100000"})
+    private int totalPages;
+
+    private final PaginationService paginationService = new PaginationService();
+    private int currentPageNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        currentPageNumber = totalPages / 2;
+    }
+
+    @Benchmark
+    public List<Integer> getPaginationBarNumbers() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+
+}
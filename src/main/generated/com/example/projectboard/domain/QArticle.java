@@ -26,6 +26,10 @@ public class QArticle extends EntityPathBase<Article> {
 
     public final SetPath<ArticleComment, QArticleComment> articleComments = this.<ArticleComment, QArticleComment>createSet("articleComments", ArticleComment.class, QArticleComment.class, PathInits.DIRECT2);
 
+    public final NumberPath<Long> commentCount = createNumber("commentCount", Long.class);
+
+    public final NumberPath<Long> commentRevision = createNumber("commentRevision", Long.class);
+
     public final StringPath content = createString("content");
 
     //inherited
@@ -36,6 +40,8 @@ public class QArticle extends EntityPathBase<Article> {
 
     public final StringPath hashtag = createString("hashtag");
 
+    public final SetPath<Hashtag, QHashtag> hashtags = this.<Hashtag, QHashtag>createSet("hashtags", Hashtag.class, QHashtag.class, PathInits.DIRECT2);
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     //inherited
@@ -48,6 +54,10 @@ public class QArticle extends EntityPathBase<Article> {
 
     public final QUserAccount userAccount;
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public final NumberPath<Long> viewCount = createNumber("viewCount", Long.class);
+
     public QArticle(String variable) {
         this(Article.class, forVariable(variable), INITS);
     }
@@ -44,6 +44,8 @@ public class QArticleComment extends EntityPathBase<ArticleComment> {
 
     public final QUserAccount userAccount;
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
     public QArticleComment(String variable) {
         this(ArticleComment.class, forVariable(variable), INITS);
     }
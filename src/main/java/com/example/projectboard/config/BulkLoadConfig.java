@@ -0,0 +1,25 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkLoadConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.bulk-load")
+    public static class BulkLoadProperties {
+        @DefaultValue("1000") private final int userCount; // 유저 수
+        @DefaultValue("100000") private final int articleCount; // 게시글 수
+        @DefaultValue("1000") private final int hashtagCount; // 해시태그 종류 수
+        @DefaultValue("500000") private final long commentCount; // 댓글 수
+        @DefaultValue("1.1") private final double zipfExponent; // 활동량 쏠림 정도. 클수록 소수에 몰린다
+        @DefaultValue("1000") private final int batchSize; // JDBC 배치 크기
+        @DefaultValue("20230201") private final long seed; // 같은 시드면 같은 데이터를 만든다
+    }
+
+}
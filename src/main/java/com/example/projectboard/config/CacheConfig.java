@@ -0,0 +1,46 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.filter.RenderedPageCacheFilter;
+import com.example.projectboard.service.cache.RenderedPageCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilter(RenderedPageCache renderedPageCache) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(new RenderedPageCacheFilter(renderedPageCache));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE); // 보안 필터 뒤
+
+        return registration;
+    }
+
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.article-detail-cache")
+    public static class ArticleDetailCacheProperties {
+        private final boolean enabled; // 게시글 상세 캐시 사용 여부
+        private final long maximumSize; // 캐시에 담을 최대 게시글 수
+        private final int maxPagesPerArticle; // 게시글 하나당 담을 최대 댓글 페이지 수
+        private final Duration expireAfterWrite; // 캐시 만료 시간. 서비스를 거치지 않는 변경(Data REST 등)도 이 시간 안에는 반영된다
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.rendered-page-cache")
+    public static class RenderedPageCacheProperties {
+        private final boolean enabled; // 비로그인 사용자에게 렌더링된 HTML 을 재사용할지 여부
+        private final long maximumSize; // 캐시에 담을 최대 페이지 수
+        private final Duration expireAfterWrite; // 캐시 만료 시간
+    }
+
+}
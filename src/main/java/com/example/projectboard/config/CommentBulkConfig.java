@@ -0,0 +1,23 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class CommentBulkConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.comment-bulk")
+    public static class CommentBulkProperties {
+        @DefaultValue("5000") private final int maxItems; // 한 번에 받는 최대 댓글 수
+        @DefaultValue("500") private final int chunkSize; // 한 트랜잭션에서 저장하는 댓글 수
+        @DefaultValue private final Set<String> trustedUserIds; // 다른 유저 명의로 댓글을 넣을 수 있는 계정(이관용)
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CommentQueueConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.comment-queue")
+    public static class CommentQueueProperties {
+        private final boolean enabled; // 댓글 등록을 큐에 모아 비동기로 저장할지 여부
+        private final int shards; // 게시글 ID 로 나눈 쓰기 스레드 수. 같은 게시글의 댓글은 항상 같은 스레드가 쓴다
+        private final int capacity; // 쓰기 스레드마다 쌓아 둘 수 있는 최대 댓글 수. 넘치면 429 로 거절한다
+        private final int maxBatchSize; // 한 트랜잭션에 모아 저장하는 최대 댓글 수
+        private final Duration maxBatchDelay; // 첫 댓글이 들어온 뒤 다음 댓글을 더 모으며 기다리는 최대 시간
+        private final Duration readYourWritesTimeout; // 작성자가 자기 댓글을 보도록 리다이렉트 전에 저장을 기다리는 최대 시간
+    }
+
+}
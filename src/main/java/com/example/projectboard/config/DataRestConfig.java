@@ -1,9 +1,11 @@
 package com.example.projectboard.config;
 
 import com.example.projectboard.domain.UserAccount;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @Configuration
 public class DataRestConfig {
@@ -15,4 +17,17 @@ public class DataRestConfig {
         );
     }
 
+    /**
+     * 응답 본문 해시로 ETag 를 붙여, 바뀐 게 없으면 본문 대신 304 를 보낸다.
+     * 응답을 끝까지 만들고 직렬화한 뒤에 해시하므로 조회와 직렬화 비용은 그대로이고, 전송량만 줄어든다.
+     * 게시글/댓글 항목 리소스는 이와 별개로 Data REST 가 {@code @Version} 으로 ETag 를 붙인다.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> dataRestEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/*");
+
+        return registration;
+    }
+
 }
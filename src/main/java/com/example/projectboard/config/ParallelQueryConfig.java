@@ -0,0 +1,35 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.service.ParallelQueries;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class ParallelQueryConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ParallelQueries parallelQueries(PlatformTransactionManager transactionManager, ParallelQueryProperties properties) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) Math.max(1, properties.getTimeout().toSeconds())); // 취소된 조회가 DB 에서 계속 돌지 않도록 쿼리 타임아웃으로도 건다
+
+        return new ParallelQueries(readOnlyTransaction, properties.getMaxConcurrency(), properties.getTimeout());
+    }
+
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.parallel-query")
+    public static class ParallelQueryProperties {
+        private final int maxConcurrency; // 동시에 별도 스레드(커넥션)에서 도는 최대 조회 수. 커넥션 풀보다 충분히 작게 잡는다
+        private final Duration timeout; // 함께 실행한 조회를 모두 기다리는 최대 시간
+    }
+
+}
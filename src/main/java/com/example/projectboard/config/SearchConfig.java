@@ -0,0 +1,31 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.ArticleTokenizer;
+import com.example.projectboard.service.search.InMemoryArticleSearchIndex;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+    @ConditionalOnMissingBean(ArticleSearchIndex.class)
+    @Bean
+    public ArticleSearchIndex articleSearchIndex() {
+        return new InMemoryArticleSearchIndex(new ArticleTokenizer());
+    }
+
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.search")
+    public static class SearchProperties {
+        private final boolean indexEnabled; // 제목/본문, 유저 ID/닉네임 검색을 메모리 색인으로 처리할지 여부
+        private final int loadChunkSize; // 기동 시 색인 적재 단위
+    }
+
+}
@@ -7,12 +7,14 @@ import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 public class SecurityConfig {
@@ -26,10 +28,15 @@ public class SecurityConfig {
                                 HttpMethod.GET,
                                 "/",
                                 "/articles",
-                                "/articles/search-hashtag"
+                                "/articles/cursor",
+                                "/articles/most-viewed",
+                                "/articles/search-hashtag",
+                                "/articles/trending",
+                                "/api/suggest"
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
+                .csrf(csrf -> csrf.ignoringRequestMatchers(jsonBulkCommentRequest()))
                 .formLogin().and()
                 .logout()
                 .logoutSuccessUrl("/")
@@ -37,6 +44,25 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * JSON 으로 보내는 댓글 일괄 등록 요청. 스크립트로 호출하는 API 라 CSRF 토큰을 받을 페이지가 없으므로 CSRF 검사에서 뺀다.
+     * 다른 사이트의 폼은 {@code application/json} 으로 보낼 수 없고, 스크립트로 보내려면 CORS 사전 요청을 통과해야 하는데 CORS 를 열어 두지 않았으므로
+     * 위조 요청은 이 매처에 걸리지 않아 CSRF 검사를 받거나, 브라우저가 막는다. 인증은 다른 요청처럼 로그인 세션으로 한다.
+     */
+    private static RequestMatcher jsonBulkCommentRequest() {
+        return request -> HttpMethod.POST.matches(request.getMethod())
+                && "/comments/bulk".equals(request.getRequestURI().substring(request.getContextPath().length()))
+                && isJson(request.getContentType());
+    }
+
+    private static boolean isJson(String contentType) {
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     @Bean
     public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
         return username -> userAccountRepository
@@ -0,0 +1,27 @@
+package com.example.projectboard.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TrendingConfig {
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConfigurationProperties("board.trending")
+    public static class TrendingProperties {
+        private final int size; // 인기글 목록에 보여줄 게시글 수
+        private final int maxTracked; // 점수를 들고 있을 최대 게시글 수. 넘치면 점수가 가장 낮은 게시글부터 버린다
+        private final Duration halfLife; // 활동 점수가 절반으로 줄어드는 시간
+        private final double viewWeight; // 조회 한 번의 점수
+        private final double commentWeight; // 댓글 하나의 점수
+        private final double minScore; // 이보다 점수가 낮아진 게시글은 추적을 멈춘다
+        private final Duration warmupWindow; // 기동 시 점수를 복원할 댓글 기간
+        private final Duration refreshInterval; // 인기글 목록을 다시 계산하는 주기
+    }
+
+}
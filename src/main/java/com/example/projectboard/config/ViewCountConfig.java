@@ -0,0 +1,22 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.filter.ArticleViewCountFilter;
+import com.example.projectboard.service.ArticleViewCountService;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class ViewCountConfig {
+
+    @Bean
+    public FilterRegistrationBean<ArticleViewCountFilter> articleViewCountFilter(ArticleViewCountService articleViewCountService) {
+        FilterRegistrationBean<ArticleViewCountFilter> registration = new FilterRegistrationBean<>(new ArticleViewCountFilter(articleViewCountService));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1); // 보안 필터 뒤, 렌더링 페이지 캐시 필터 앞
+        registration.addUrlPatterns("/articles/*");
+
+        return registration;
+    }
+
+}
@@ -1,34 +1,84 @@
 package com.example.projectboard.controller;
 
 
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.request.ArticleCommentBulkRequest;
 import com.example.projectboard.dto.request.ArticleCommentRequest;
+import com.example.projectboard.dto.response.ArticleCommentBulkResponse;
 import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.ArticleCommentBulkService;
 import com.example.projectboard.service.ArticleCommentService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RequiredArgsConstructor
+@Validated
 @RequestMapping("/comments")
 @Controller
 public class ArticleCommentController {
 
     private final ArticleCommentService articleCommentService;
+    private final ArticleCommentBulkService articleCommentBulkService;
 
     @PostMapping ("/new")
     public String postNewArticleComment(
             @AuthenticationPrincipal BoardPrincipal boardPrincipal,
             ArticleCommentRequest articleCommentRequest
     ) {
-        articleCommentService.saveArticleComment(articleCommentRequest.toDto(boardPrincipal.toDto()));
+        ArticleCommentDto dto = articleCommentRequest.toDto(boardPrincipal.toDto());
+        if (!articleCommentService.isWriteQueueEnabled()) {
+            articleCommentService.saveArticleComment(dto);
+        } else {
+            try {
+                articleCommentService.saveArticleCommentQueued(dto);
+            } catch (RejectedExecutionException e) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "댓글이 몰리고 있습니다. 잠시 후 다시 시도해 주세요");
+            }
+        }
 
 
         return "redirect:/articles/" + articleCommentRequest.articleId();
     }
 
+    /**
+     * 댓글 일괄 등록. 항목별 실패는 응답 본문으로 알려 주고, 요청 자체가 너무 크거나 빈 항목/잘못된 항목이 있으면 400 으로 거절한다.
+     * 로그인한 세션 쿠키를 붙여 {@code Content-Type: application/json} 으로 호출한다. CSRF 토큰은 필요 없다({@link com.example.projectboard.config.SecurityConfig} 참고).
+     */
+    @ResponseBody
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ArticleCommentBulkResponse postNewArticleComments(
+            @AuthenticationPrincipal BoardPrincipal boardPrincipal,
+            @RequestBody List<@NotNull @Valid ArticleCommentBulkRequest> requests
+    ) {
+        try {
+            return ArticleCommentBulkResponse.from(articleCommentBulkService.saveArticleComments(
+                    requests.stream().map(request -> request.toDto(boardPrincipal.getUsername())).toList(),
+                    boardPrincipal.getUsername()
+            ));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @PostMapping ("/{commentId}/delete")
     public String deleteArticleComment(
             @PathVariable Long commentId,
@@ -40,4 +90,9 @@ public class ArticleCommentController {
         return "redirect:/articles/" + articleId;
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public void handleInvalidRequest(ConstraintViolationException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+    }
+
 }
@@ -2,24 +2,43 @@ package com.example.projectboard.controller;
 
 import com.example.projectboard.domain.constant.FormStatus;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleCursor;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleModification;
 import com.example.projectboard.dto.request.ArticleRequest;
+import com.example.projectboard.dto.response.ArticleRankResponse;
 import com.example.projectboard.dto.response.ArticleResponse;
 import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.example.projectboard.dto.security.BoardPrincipal;
 import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.ArticleViewCountService;
 import com.example.projectboard.service.PaginationService;
+import com.example.projectboard.service.TrendingArticleService;
+import com.example.projectboard.service.cache.ArticleDetailCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
@@ -28,31 +47,92 @@ public class ArticleController {
 
     private final ArticleService articleService;
     private final PaginationService paginationService;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleViewCountService articleViewCountService;
+    private final TrendingArticleService trendingArticleService;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            ModelMap map
+            ModelMap map,
+            WebRequest webRequest
     ) {
+        Optional<LocalDateTime> lastModifiedAt = articleService.getLastModifiedAt();
+        if (lastModifiedAt.isPresent() && webRequest.checkNotModified(
+                etag(lastModifiedAt.get(), articleService.getArticleCount(), articleService.getCommentCountVersion(), webRequest.getRemoteUser()),
+                toEpochMilli(lastModifiedAt.get())
+        )) {
+            return null;
+        }
+
         Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
         map.addAttribute("paginationBarNumbers", barNumbers);
+        map.addAttribute("totalLabel", paginationService.getTotalLabel(articles));
+        map.addAttribute("searchTypes", SearchType.values());
+
+        return "articles/index";
+    }
+
+    @GetMapping("/cursor")
+    public String articlesByCursor(
+            @RequestParam(required = false) String prev,
+            @RequestParam(required = false) String next,
+            @RequestParam(defaultValue = "10") int size,
+            ModelMap map
+    ) {
+        Optional<ArticleCursor> prevCursor = ArticleCursor.decode(prev);
+        Optional<ArticleCursor> nextCursor = ArticleCursor.decode(next);
+
+        Slice<ArticleDto> articles = prevCursor
+                .map(cursor -> articleService.searchNewerArticles(cursor, size))
+                .filter(Slice::hasContent)
+                .orElse(null);
+        boolean backward = articles != null;
+        if (!backward) {
+            articles = articleService.searchOlderArticles(nextCursor.orElse(null), size);
+        }
+        PaginationService.CursorBar cursorBar = paginationService.getCursorBar(
+                articles,
+                article -> ArticleCursor.from(article).encode(),
+                backward,
+                backward || nextCursor.isPresent()
+        );
+
+        map.addAttribute("articles", articles.map(ArticleResponse::from));
+        map.addAttribute("cursorBar", cursorBar);
         map.addAttribute("searchTypes", SearchType.values());
 
         return "articles/index";
     }
 
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable commentPageable,
+            ModelMap map,
+            WebRequest webRequest
+    ) {
+        // 댓글을 읽기 전에 게시글 행 하나로 바뀐 게 없는지 확인한다. 댓글 수정은 게시글 수정 시각을 바꾸지 않으므로 Last-Modified 없이 ETag 로만 판단한다
+        // 댓글/삭제 폼에 세션의 CSRF 토큰이 들어간다. 토큰은 로그인/로그아웃 때 세션 ID 와 함께 바뀌므로, 세션 ID 를 넣어 예전 토큰이 든 페이지를 재사용하지 않게 한다
+        long totalCount = articleService.getArticleCount();
+        Optional<ArticleModification> modification = articleService.getArticleModification(articleId);
+        if (modification.isPresent() && webRequest.checkNotModified(
+                etag(modification.get(), totalCount, webRequest.getRemoteUser(), webRequest.getSessionId())
+        )) {
+            return null;
+        }
+
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleDetailCache.getArticleWithComments(articleId, commentPageable));
 
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("commentPage", commentPageable.getPageNumber());
+        map.addAttribute("totalCount", totalCount);
 
         return "articles/detail";
     }
@@ -61,8 +141,17 @@ public class ArticleController {
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            ModelMap map
+            ModelMap map,
+            WebRequest webRequest
     ) {
+        Optional<LocalDateTime> lastModifiedAt = articleService.getLastModifiedAt();
+        if (lastModifiedAt.isPresent() && webRequest.checkNotModified(
+                etag(lastModifiedAt.get(), articleService.getArticleCount(), articleService.getCommentCountVersion(), webRequest.getRemoteUser()),
+                toEpochMilli(lastModifiedAt.get())
+        )) {
+            return null;
+        }
+
         Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         List<String> hashtags = articleService.getHashtags();
@@ -75,6 +164,27 @@ public class ArticleController {
         return "articles/search-hashtag";
     }
 
+    @ResponseBody
+    @GetMapping("/most-viewed")
+    public List<ArticleRankResponse> mostViewedArticles() {
+        return articleViewCountService.getMostViewedArticles().stream()
+                .map(ArticleRankResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/trending")
+    public String trendingArticles(ModelMap map) {
+        map.addAttribute("articles", trendingArticleResponses());
+
+        return "articles/trending";
+    }
+
+    @ResponseBody
+    @GetMapping(value = "/trending", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<ArticleRankResponse> trendingArticlesApi() {
+        return trendingArticleResponses();
+    }
+
     @GetMapping("/form")
     public String articleForm(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
@@ -108,7 +218,11 @@ public class ArticleController {
             @AuthenticationPrincipal BoardPrincipal boardPrincipal,
             ArticleRequest articleRequest
     ) {
-        articleService.updateArticle(articleId, articleRequest.toDto(boardPrincipal.toDto()));
+        try {
+            articleService.updateArticle(articleId, articleRequest.toDto(boardPrincipal.toDto()));
+        } catch (OptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 곳에서 먼저 수정된 게시글입니다. 게시글을 다시 열어 수정해 주세요", e);
+        }
 
         return "redirect:/articles/" + articleId;
     }
@@ -123,4 +237,22 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
+
+    private List<ArticleRankResponse> trendingArticleResponses() {
+        return trendingArticleService.getTrendingArticles().stream()
+                .map(ArticleRankResponse::from)
+                .toList();
+    }
+
+    /**
+     * 페이지 내용을 결정하는 값으로 약한 ETag 를 만든다. 헤더의 로그인 영역이 사용자마다 다르므로 사용자 ID 도 넣는다.
+     */
+    private String etag(Object... values) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(Arrays.toString(values).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
 }
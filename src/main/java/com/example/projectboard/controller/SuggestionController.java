@@ -0,0 +1,31 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.dto.response.SuggestionResponse;
+import com.example.projectboard.dto.response.SuggestionsResponse;
+import com.example.projectboard.service.search.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 검색창 자동완성. Spring Data REST 와 같은 {@code /api} 아래에 두지만 저장소가 아닌 메모리 색인에서 답한다.
+ */
+@RequiredArgsConstructor
+@RestController
+public class SuggestionController {
+
+    private final SuggestionIndex suggestionIndex;
+
+    @GetMapping("/api/suggest")
+    public SuggestionsResponse suggest(
+            @RequestParam(name = "q", defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return SuggestionsResponse.of(
+                suggestionIndex.suggestHashtags(prefix, size).stream().map(SuggestionResponse::fromHashtag).toList(),
+                suggestionIndex.suggestTitleTerms(prefix, size).stream().map(SuggestionResponse::from).toList()
+        );
+    }
+
+}
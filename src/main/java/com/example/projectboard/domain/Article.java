@@ -3,8 +3,11 @@ package com.example.projectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -15,13 +18,22 @@ import java.util.Set;
         @Index(columnList = "title"),
         @Index(columnList = "hashtag"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "userId, createdAt"),
+        @Index(columnList = "modifiedAt"),
+        @Index(columnList = "viewCount"),
+        @Index(columnList = "commentCount")
 })
+@DynamicUpdate // 수정할 때 바뀐 컬럼만 쓴다
 @Entity
 public class Article extends AuditingFields {
 
+    /** 시퀀스에서 한 번에 받아 오는 ID 개수. ID 를 미리 받아 두므로 insert 를 JDBC 배치로 묶을 수 있다. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "articleIdGenerator", sequenceName = "article_seq", initialValue = 1000, allocationSize = ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articleIdGenerator") // 시퀀스가 없는 MySQL 에서는 article_seq 테이블로 대신한다
     private Long id;
 
     @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보 (ID)
@@ -31,6 +43,20 @@ public class Article extends AuditingFields {
 
     @Setter private String hashtag; // 해시태그
 
+    @ColumnDefault("0") @Column(nullable = false, updatable = false) private long viewCount; // 조회수. 엔티티 변경으로 덮어쓰지 않도록 JDBC 로 모아서만 올린다
+    @Version @ColumnDefault("0") @Column(nullable = false) private long version; // 낙관적 잠금용 버전. 수정 폼이 들고 있다가 되돌려 보내 다른 사람의 수정을 덮어쓰지 않게 한다
+    @ColumnDefault("0") @Column(nullable = false, updatable = false) private long commentCount; // 댓글 수. 목록에서 댓글을 세지 않도록 댓글 저장/삭제 때 UPDATE 문으로 증감한다
+    @ColumnDefault("0") @Column(nullable = false, updatable = false) private long commentRevision; // 댓글이 달리거나 수정, 삭제될 때마다 UPDATE 문으로 올린다. 상세 페이지가 댓글을 읽지 않고 바뀐 것을 알아채게 한다
+
+    @ToString.Exclude
+    @JoinTable(
+            name = "article_hashtag",
+            joinColumns = @JoinColumn(name = "articleId"),
+            inverseJoinColumns = @JoinColumn(name = "hashtagId")
+    )
+    @ManyToMany
+    private final Set<Hashtag> hashtags = new LinkedHashSet<>();
+
     @ToString.Exclude
     @OrderBy("createdAt DESC")
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
@@ -50,6 +76,14 @@ public class Article extends AuditingFields {
         return new Article(userAccount, title, content, hashtag);
     }
 
+    public void addHashtags(Collection<Hashtag> hashtags) {
+        this.hashtags.addAll(hashtags);
+    }
+
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.hashtags.removeAll(hashtags);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
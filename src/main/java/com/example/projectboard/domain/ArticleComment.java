@@ -3,6 +3,8 @@ package com.example.projectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import java.util.Objects;
@@ -10,15 +12,20 @@ import java.util.Objects;
 @Getter
 @ToString(callSuper = true)
 @Table(indexes = {
+        @Index(columnList = "article_id, createdAt"),
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@DynamicUpdate // 수정할 때 바뀐 컬럼만 쓴다
 @Entity
 public class ArticleComment extends AuditingFields {
 
+    public static final int ID_ALLOCATION_SIZE = 50; // 시퀀스에서 한 번에 받아 오는 ID 개수
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "articleCommentIdGenerator", sequenceName = "article_comment_seq", initialValue = 1000, allocationSize = ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articleCommentIdGenerator") // 시퀀스가 없는 MySQL 에서는 article_comment_seq 테이블로 대신한다
     private Long id;
 
     @Setter @ManyToOne(optional = false) private Article article; // 게시글 (ID)
@@ -26,6 +33,7 @@ public class ArticleComment extends AuditingFields {
 
     @Setter @Column(nullable = false, length = 500) private String content; // 본문
 
+    @Version @ColumnDefault("0") @Column(nullable = false) private long version; // 낙관적 잠금용 버전
 
     protected ArticleComment() {}
 
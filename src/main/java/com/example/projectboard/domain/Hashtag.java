@@ -0,0 +1,68 @@
+package com.example.projectboard.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import jakarta.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+@Getter
+@ToString(callSuper = true)
+@Table(indexes = {
+        @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@Entity
+public class Hashtag extends AuditingFields {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ToString.Exclude
+    @ManyToMany(mappedBy = "hashtags")
+    private final Set<Article> articles = new LinkedHashSet<>();
+
+    @Setter @Column(nullable = false, length = 50) private String hashtagName; // 해시태그 이름 ('#' 제외, 소문자)
+    @Column(nullable = false) private long articleCount; // 해시태그가 달린 게시글 수
+
+
+    protected Hashtag() {}
+
+    private Hashtag(String hashtagName) {
+        this.hashtagName = hashtagName;
+    }
+
+    public static Hashtag of(String hashtagName) {
+        return new Hashtag(normalize(hashtagName));
+    }
+
+    public static String normalize(String hashtagName) {
+        if (hashtagName == null) {
+            return null;
+        }
+        String trimmed = hashtagName.strip();
+        while (trimmed.startsWith("#")) {
+            trimmed = trimmed.substring(1);
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hashtag that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.projectboard.domain;
 
+import com.example.projectboard.service.event.UserAccountEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,6 +15,7 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@EntityListeners(UserAccountEntityListener.class)
 @Entity
 public class UserAccount extends AuditingFields {
     @Id
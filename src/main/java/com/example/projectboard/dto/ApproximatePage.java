@@ -0,0 +1,46 @@
+package com.example.projectboard.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * count 쿼리 없이 만든 페이지. 전체 건수는 실제로 읽어 본 만큼의 하한이고, 마지막 행까지 읽었을 때만 정확하다.
+ * 하한까지는 페이지가 있다는 것이 확실하므로 페이지네이션 바는 그대로 그릴 수 있고, 전체 건수는 "31+" 처럼 표시한다.
+ */
+public class ApproximatePage<T> extends PageImpl<T> {
+
+    private final boolean exactTotal;
+
+    public ApproximatePage(List<T> content, Pageable pageable, long total, boolean exactTotal) {
+        super(content, pageable, total);
+        this.exactTotal = exactTotal;
+    }
+
+    /**
+     * 현재 페이지부터 최대 {@code limit} 행을 읽은 결과로 페이지를 만든다. {@code limit} 행을 다 채웠으면 그 뒤에도 행이 더 있을 수 있다.
+     * 마지막 페이지 너머를 요청해 한 행도 읽지 못했으면 전체 건수를 알 수 없으므로, 그때만 {@code countQuery} 로 정확한 건수를 센다.
+     */
+    public static <T> ApproximatePage<T> fromLookahead(List<T> rows, Pageable pageable, long limit, LongSupplier countQuery) {
+        if (rows.isEmpty() && pageable.getOffset() > 0) {
+            return new ApproximatePage<>(List.of(), pageable, countQuery.getAsLong(), true);
+        }
+
+        List<T> content = rows.subList(0, Math.min(pageable.getPageSize(), rows.size()));
+
+        return new ApproximatePage<>(List.copyOf(content), pageable, pageable.getOffset() + rows.size(), rows.size() < limit);
+    }
+
+    public boolean isExactTotal() {
+        return exactTotal;
+    }
+
+    @Override
+    public <U> ApproximatePage<U> map(Function<? super T, ? extends U> converter) {
+        return new ApproximatePage<>(getConvertedContent(converter), getPageable(), getTotalElements(), exactTotal);
+    }
+
+}
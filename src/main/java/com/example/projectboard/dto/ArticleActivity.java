@@ -0,0 +1,17 @@
+package com.example.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글에 일어난 활동(댓글 등) 한 건의 시각.
+ */
+public record ArticleActivity(
+        Long articleId,
+        LocalDateTime occurredAt
+) {
+
+    public static ArticleActivity of(Long articleId, LocalDateTime occurredAt) {
+        return new ArticleActivity(articleId, occurredAt);
+    }
+
+}
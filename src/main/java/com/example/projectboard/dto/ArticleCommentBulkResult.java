@@ -0,0 +1,39 @@
+package com.example.projectboard.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 일괄 저장 결과. 실패한 항목은 요청 목록에서의 위치와 이유를 담는다.
+ */
+public record ArticleCommentBulkResult(int requested, int saved, List<Failure> failures) {
+
+    public static ArticleCommentBulkResult of(int requested, int saved, List<Failure> failures) {
+        return new ArticleCommentBulkResult(requested, saved, failures);
+    }
+
+
+    public record Failure(int index, Reason reason) {
+
+        public static Failure of(int index, Reason reason) {
+            return new Failure(index, reason);
+        }
+
+    }
+
+    public enum Reason {
+        INVALID_CONTENT("본문이 비어 있거나 너무 깁니다"),
+        ARTICLE_NOT_FOUND("게시글을 찾을 수 없습니다"),
+        USER_NOT_FOUND("유저를 찾을 수 없습니다"),
+        FORBIDDEN("다른 유저 명의로 작성할 권한이 없습니다"),
+        SAVE_FAILED("저장 중 오류가 발생했습니다");
+
+        @Getter private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+    }
+
+}
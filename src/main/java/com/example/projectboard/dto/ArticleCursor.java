@@ -0,0 +1,46 @@
+package com.example.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 커서 기반 페이지 이동에 쓰는 게시글 위치(작성일시 + ID). 화면에는 base64 로 인코딩한 불투명 문자열로만 노출한다.
+ */
+public record ArticleCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    public static ArticleCursor from(ArticleDto dto) {
+        return new ArticleCursor(dto.createdAt(), dto.id());
+    }
+
+    public static Optional<ArticleCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return Optional.of(ArticleCursor.of(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            ));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
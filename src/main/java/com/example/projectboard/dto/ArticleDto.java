@@ -14,15 +14,24 @@ public record ArticleDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long commentCount,
+        Long version
 ) {
 
     public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, String hashtag) {
-        return new ArticleDto(null, userAccountDto, title, content, hashtag, null, null, null, null);
+        return of(userAccountDto, title, content, hashtag, null);
+    }
+
+    /**
+     * @param version 수정 폼을 열 때 읽은 게시글 버전. {@code null} 이면 버전을 확인하지 않고 수정한다.
+     */
+    public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, String hashtag, Long version) {
+        return new ArticleDto(null, userAccountDto, title, content, hashtag, null, null, null, null, 0, version);
     }
 
     public static ArticleDto of(Long id, UserAccountDto userAccountDto, String title, String content, String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleDto(id, userAccountDto, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleDto(id, userAccountDto, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy, 0, null);
     }
 
     public static ArticleDto from(Article entity) {
@@ -35,7 +44,9 @@ public record ArticleDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getCommentCount(),
+                entity.getVersion()
         );
     }
 
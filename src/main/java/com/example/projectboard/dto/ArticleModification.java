@@ -0,0 +1,21 @@
+package com.example.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 페이지가 바뀌었는지 판단하는 데 필요한 값. 댓글 테이블을 읽지 않고 게시글 행 하나로 얻는다.
+ * 게시글 수정은 시각보다 정확한 게시글 버전으로, 댓글 추가/수정/삭제는 게시글에 같이 올려 두는 댓글 리비전으로 알아챈다.
+ */
+public record ArticleModification(
+        Long articleId,
+        long articleVersion,
+        LocalDateTime articleModifiedAt,
+        long commentCount,
+        long commentRevision
+) {
+
+    public static ArticleModification of(Long articleId, long articleVersion, LocalDateTime articleModifiedAt, long commentCount, long commentRevision) {
+        return new ArticleModification(articleId, articleVersion, articleModifiedAt, commentCount, commentRevision);
+    }
+
+}
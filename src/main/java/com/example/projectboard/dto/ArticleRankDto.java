@@ -0,0 +1,15 @@
+package com.example.projectboard.dto;
+
+/**
+ * 순위 목록의 게시글 한 건과 순위 기준 값.
+ */
+public record ArticleRankDto(
+        ArticleDto article,
+        long score
+) {
+
+    public static ArticleRankDto of(ArticleDto article, long score) {
+        return new ArticleRankDto(article, score);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+public record ArticleSearchDocument(
+        Long id,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public static ArticleSearchDocument of(Long id, String title, String content, LocalDateTime createdAt) {
+        return new ArticleSearchDocument(id, title, content, createdAt);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.example.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 화면용 조회 전용 DTO. 엔티티 대신 필요한 컬럼만 프로젝션으로 읽어 온다.
+ * 본문은 목록 미리보기에 필요한 앞부분만 담는다.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String contentPreview,
+        String hashtag,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname,
+        long commentCount,
+        long version
+) {
+
+    public static ArticleSummaryDto of(Long id, String title, String contentPreview, String hashtag, LocalDateTime createdAt, String userId, String email, String nickname, long commentCount, long version) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtag, createdAt, userId, email, nickname, commentCount, version);
+    }
+
+}
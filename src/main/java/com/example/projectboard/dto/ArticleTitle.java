@@ -0,0 +1,9 @@
+package com.example.projectboard.dto;
+
+public record ArticleTitle(Long id, String title) {
+
+    public static ArticleTitle of(Long id, String title) {
+        return new ArticleTitle(id, title);
+    }
+
+}
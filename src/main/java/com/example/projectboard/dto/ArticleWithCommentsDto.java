@@ -1,8 +1,11 @@
 package com.example.projectboard.dto;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -17,17 +20,30 @@ public record ArticleWithCommentsDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        boolean hasNextComments
 ) {
     public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy, false);
+    }
+
+    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, boolean hasNextComments) {
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy, hasNextComments);
     }
 
     public static ArticleWithCommentsDto from(Article entity) {
+        return from(entity, entity.getArticleComments(), false);
+    }
+
+    public static ArticleWithCommentsDto from(Article entity, Slice<ArticleComment> articleComments) {
+        return from(entity, articleComments.getContent(), articleComments.hasNext());
+    }
+
+    private static ArticleWithCommentsDto from(Article entity, Collection<ArticleComment> articleComments, boolean hasNextComments) {
         return new ArticleWithCommentsDto(
                 entity.getId(),
                 UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
+                articleComments.stream()
                         .map(ArticleCommentDto::from)
                         .collect(Collectors.toCollection(LinkedHashSet::new)),
                 entity.getTitle(),
@@ -36,7 +52,8 @@ public record ArticleWithCommentsDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                hasNextComments
         );
     }
 
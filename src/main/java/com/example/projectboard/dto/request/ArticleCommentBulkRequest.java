@@ -0,0 +1,25 @@
+package com.example.projectboard.dto.request;
+
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.UserAccountDto;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 일괄 등록할 댓글 한 건. {@code userId} 를 비우면 요청한 유저 명의로 작성한다.
+ * 게시글 ID 가 없는 항목은 요청 전체를 400 으로 거절하고, 본문처럼 저장할 때 확인하는 값은 항목별 실패로 알려 준다.
+ */
+public record ArticleCommentBulkRequest(@NotNull Long articleId, String userId, String content) {
+
+    public static ArticleCommentBulkRequest of(Long articleId, String userId, String content) {
+        return new ArticleCommentBulkRequest(articleId, userId, content);
+    }
+
+    public ArticleCommentDto toDto(String requesterId) {
+        return ArticleCommentDto.of(
+                articleId,
+                UserAccountDto.of(userId == null || userId.isBlank() ? requesterId : userId, null, null, null, null),
+                content
+        );
+    }
+
+}
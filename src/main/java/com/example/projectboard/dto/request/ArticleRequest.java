@@ -6,11 +6,16 @@ import com.example.projectboard.dto.UserAccountDto;
 public record ArticleRequest(
         String title,
         String content,
-        String hashtag
+        String hashtag,
+        Long version
 ) {
 
     public static ArticleRequest of(String title, String content, String hashtag) {
-        return new ArticleRequest(title, content, hashtag);
+        return new ArticleRequest(title, content, hashtag, null);
+    }
+
+    public static ArticleRequest of(String title, String content, String hashtag, Long version) {
+        return new ArticleRequest(title, content, hashtag, version);
     }
 
     public ArticleDto toDto(UserAccountDto userAccountDto) {
@@ -18,7 +23,8 @@ public record ArticleRequest(
                 userAccountDto,
                 title,
                 content,
-                hashtag
+                hashtag,
+                version
         );
     }
 
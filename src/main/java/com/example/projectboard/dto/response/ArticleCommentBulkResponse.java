@@ -0,0 +1,26 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.dto.ArticleCommentBulkResult;
+
+import java.util.List;
+
+public record ArticleCommentBulkResponse(
+        int requested,
+        int saved,
+        List<FailureResponse> failures
+) {
+
+    public static ArticleCommentBulkResponse from(ArticleCommentBulkResult result) {
+        return new ArticleCommentBulkResponse(
+                result.requested(),
+                result.saved(),
+                result.failures().stream()
+                        .map(failure -> new FailureResponse(failure.index(), failure.reason().name(), failure.reason().getDescription()))
+                        .toList()
+        );
+    }
+
+
+    public record FailureResponse(int index, String reason, String message) {}
+
+}
@@ -0,0 +1,33 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleRankDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 순위 목록의 게시글 한 건. {@code score} 는 순위 기준 값(조회수 등)이다.
+ */
+public record ArticleRankResponse(
+        Long id,
+        String title,
+        String nickname,
+        LocalDateTime createdAt,
+        long score
+) {
+
+    public static ArticleRankResponse of(Long id, String title, String nickname, LocalDateTime createdAt, long score) {
+        return new ArticleRankResponse(id, title, nickname, createdAt, score);
+    }
+
+    public static ArticleRankResponse from(ArticleRankDto rank) {
+        ArticleDto dto = rank.article();
+        String nickname = dto.userAccountDto().nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userAccountDto().userId();
+        }
+
+        return new ArticleRankResponse(dto.id(), dto.title(), nickname, dto.createdAt(), rank.score());
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.example.projectboard.dto.response;
 
 import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleSummaryDto;
 
 import java.time.LocalDateTime;
 
@@ -11,11 +12,13 @@ public record ArticleResponse(
         String hashtag,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long commentCount,
+        Long version
 ) {
 
-    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, long commentCount, Long version) {
+        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname, commentCount, version);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -31,7 +34,28 @@ public record ArticleResponse(
                 dto.hashtag(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.commentCount(),
+                dto.version()
+        );
+    }
+
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                dto.contentPreview(),
+                dto.hashtag(),
+                dto.createdAt(),
+                dto.email(),
+                nickname,
+                dto.commentCount(),
+                dto.version()
         );
     }
 
@@ -0,0 +1,22 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.service.search.RadixTrie;
+
+/**
+ * 자동완성 후보 한 건. {@code articleCount} 는 그 해시태그나 단어를 쓴 게시글 수이다.
+ */
+public record SuggestionResponse(String text, long articleCount) {
+
+    public static SuggestionResponse of(String text, long articleCount) {
+        return new SuggestionResponse(text, articleCount);
+    }
+
+    public static SuggestionResponse from(RadixTrie.Entry entry) {
+        return new SuggestionResponse(entry.key(), entry.weight());
+    }
+
+    public static SuggestionResponse fromHashtag(RadixTrie.Entry entry) {
+        return new SuggestionResponse("#" + entry.key(), entry.weight());
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.example.projectboard.dto.response;
+
+import java.util.List;
+
+public record SuggestionsResponse(
+        List<SuggestionResponse> hashtags,
+        List<SuggestionResponse> titleTerms
+) {
+
+    public static SuggestionsResponse of(List<SuggestionResponse> hashtags, List<SuggestionResponse> titleTerms) {
+        return new SuggestionsResponse(hashtags, titleTerms);
+    }
+
+}
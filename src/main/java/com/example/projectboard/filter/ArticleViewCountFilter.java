@@ -0,0 +1,43 @@
+package com.example.projectboard.filter;
+
+import com.example.projectboard.service.ArticleViewCountService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 상세 GET 요청이 성공(200)하거나 바뀐 게 없다(304)고 답하면 조회수를 센다.
+ * 렌더링 페이지 캐시가 컨트롤러를 건너뛰어도 셀 수 있도록 그 필터보다 바깥에서 돈다.
+ */
+@RequiredArgsConstructor
+public class ArticleViewCountFilter extends OncePerRequestFilter {
+
+    private static final Pattern ARTICLE_PATH = Pattern.compile("^/articles/(\\d{1,18})$");
+
+    private final ArticleViewCountService articleViewCountService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+
+        Matcher matcher = ARTICLE_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        int status = response.getStatus();
+        if (matcher.matches() && (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NOT_MODIFIED)) {
+            articleViewCountService.recordView(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.example.projectboard.filter;
+
+import com.example.projectboard.service.cache.RenderedPageCache;
+import com.example.projectboard.service.cache.RenderedPageCache.RenderedPage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 비로그인 사용자의 게시글 목록 GET 요청에 렌더링된 HTML 을 재사용한다. 캐시에 있으면 컨트롤러와 템플릿을 거치지 않는다.
+ * 헤더의 로그인 영역이 사용자마다 다르므로 로그인한 사용자는 캐시하지 않는다.
+ * 게시글 상세는 로그인해야 볼 수 있고 세션마다 다른 CSRF 토큰이 든 폼이 있으므로 캐시하지 않는다.
+ * 보안 필터 뒤에서 돌아야 인증 정보를 볼 수 있으므로 {@link com.example.projectboard.config.CacheConfig} 에서 가장 나중 순서로 등록한다.
+ */
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIST_PATHS = Set.of("/articles", "/articles/cursor", "/articles/search-hashtag");
+
+    private final RenderedPageCache renderedPageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !renderedPageCache.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !LIST_PATHS.contains(path(request))
+                || !isAnonymous();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+        Optional<RenderedPage> cached = renderedPageCache.get(key);
+        if (cached.isPresent()) {
+            writeCachedPage(request, response, cached.get());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        if (responseWrapper.getStatus() == HttpServletResponse.SC_OK && isHtml(responseWrapper.getContentType())) {
+            renderedPageCache.put(key, new RenderedPage(
+                    responseWrapper.getContentType(),
+                    responseWrapper.getContentAsByteArray(),
+                    responseWrapper.getHeader(HttpHeaders.ETAG),
+                    responseWrapper.getHeader(HttpHeaders.LAST_MODIFIED)
+            ));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+
+    private void writeCachedPage(HttpServletRequest request, HttpServletResponse response, RenderedPage page) throws IOException {
+        if (page.lastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, page.lastModified());
+        }
+        if (page.etag() != null && new ServletWebRequest(request, response).checkNotModified(page.etag())) {
+            return;
+        }
+
+        response.setContentType(page.contentType());
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    /**
+     * 요청을 받은 시점의 버전으로 키를 만든다. 요청 처리 중에 변경이 커밋되면 이 키로 저장된 페이지는 더 이상 조회되지 않는다.
+     */
+    private String cacheKey(HttpServletRequest request) {
+        String path = path(request);
+        String requestUri = request.getQueryString() == null ? path : path + "?" + request.getQueryString();
+
+        return renderedPageCache.listKey(requestUri);
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication instanceof AnonymousAuthenticationToken;
+    }
+
+    private boolean isHtml(String contentType) {
+        return contentType != null && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+}
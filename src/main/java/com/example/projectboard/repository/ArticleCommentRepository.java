@@ -2,15 +2,24 @@ package com.example.projectboard.repository;
 
 import com.example.projectboard.domain.ArticleComment;
 import com.example.projectboard.domain.QArticleComment;
+import com.example.projectboard.dto.ArticleActivity;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RepositoryRestResource
 public interface ArticleCommentRepository extends
@@ -19,7 +28,32 @@ public interface ArticleCommentRepository extends
         QuerydslBinderCustomizer<QArticleComment> {
 
     List<ArticleComment> findByArticle_Id(Long articleId);
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+
+    @Query("select ac from ArticleComment ac join fetch ac.userAccount where ac.article.id = :articleId")
+    Slice<ArticleComment> findSliceByArticleId(@Param("articleId") Long articleId, Pageable pageable);
+
+    @Query("select ac.article.id from ArticleComment ac where ac.id = :articleCommentId")
+    Optional<Long> findArticleIdById(@Param("articleCommentId") Long articleCommentId);
+
+    @RestResource(exported = false)
+    @Query("select new com.example.projectboard.dto.ArticleActivity(ac.article.id, ac.createdAt) from ArticleComment ac where ac.createdAt >= :since")
+    List<ArticleActivity> findActivitiesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 작성자가 맞을 때만 댓글을 지우고, 지운 행 수를 돌려준다. 댓글을 엔티티로 읽지 않고 DELETE 문 하나로 지운다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ArticleComment ac where ac.id = :articleCommentId and ac.userAccount.userId = :userId")
+    int deleteByIdAndUserId(@Param("articleCommentId") Long articleCommentId, @Param("userId") String userId);
+
+    /**
+     * 게시글의 댓글을 DELETE 문 하나로 모두 지운다. 댓글 수와 관계없이 댓글 엔티티를 읽지 않는다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ArticleComment ac where ac.article.id = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
 
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root) {
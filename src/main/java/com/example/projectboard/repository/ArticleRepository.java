@@ -2,16 +2,27 @@ package com.example.projectboard.repository;
 
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.QArticle;
+import com.example.projectboard.dto.ArticleModification;
+import com.example.projectboard.dto.ArticleSearchDocument;
 import com.example.projectboard.repository.querydsl.ArticleRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @RepositoryRestResource
 public interface ArticleRepository extends
@@ -26,7 +37,106 @@ public interface ArticleRepository extends
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
     Page<Article> findByHashtag(String hashtag, Pageable pageable);
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userid);
+    @Query("select a from Article a join fetch a.userAccount order by a.createdAt desc, a.id desc")
+    List<Article> findLatest(Pageable pageable);
+
+    @Query("select a from Article a join fetch a.userAccount " +
+            "where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id) " +
+            "order by a.createdAt desc, a.id desc")
+    List<Article> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select a from Article a join fetch a.userAccount " +
+            "where a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id) " +
+            "order by a.createdAt asc, a.id asc")
+    List<Article> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @RestResource(exported = false)
+    boolean existsByIdAndUserAccount_UserId(Long articleId, String userId);
+
+    @RestResource(exported = false)
+    long countByUserAccount_UserIdIn(Collection<String> userIds);
+
+    /**
+     * 작성자가 맞고 버전이 그대로일 때만 게시글을 고치고 버전을 올린 뒤, 고친 행 수를 돌려준다. 게시글과 작성자를 엔티티로 읽지 않고 UPDATE 문 하나로 소유자/버전 확인과 수정을 한다.
+     * 제목/본문이 {@code null} 이면 그대로 두고, 버전이 {@code null} 이면 버전을 확인하지 않는다. 감사 필드는 자동으로 채워지지 않으므로 직접 넣는다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("update Article a set a.title = coalesce(:title, a.title), a.content = coalesce(:content, a.content), a.hashtag = :hashtag, " +
+            "a.modifiedAt = :modifiedAt, a.modifiedBy = :userId, a.version = a.version + 1 " +
+            "where a.id = :articleId and a.userAccount.userId = :userId and (:version is null or a.version = :version)")
+    int updateByIdAndUserId(
+            @Param("articleId") Long articleId,
+            @Param("userId") String userId,
+            @Param("version") Long version,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("hashtag") String hashtag,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    /**
+     * 작성자가 맞을 때만 게시글을 지우고, 지운 행 수를 돌려준다. 엔티티를 읽지 않으므로 댓글과 해시태그 연결은 먼저 지워 둬야 한다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Article a where a.id = :articleId and a.userAccount.userId = :userId")
+    int deleteByIdAndUserId(@Param("articleId") Long articleId, @Param("userId") String userId);
+
+    @RestResource(exported = false)
+    @Query("select new com.example.projectboard.dto.ArticleSearchDocument(a.id, a.title, a.content, a.createdAt) from Article a where a.id = :articleId")
+    Optional<ArticleSearchDocument> findSearchDocumentById(@Param("articleId") Long articleId);
+
+    @RestResource(exported = false)
+    @Query("select new com.example.projectboard.dto.ArticleModification(a.id, a.version, a.modifiedAt, a.commentCount, a.commentRevision) " +
+            "from Article a where a.id = :articleId")
+    Optional<ArticleModification> findModificationById(@Param("articleId") Long articleId);
+
+    @RestResource(exported = false)
+    @Query("select a from Article a join fetch a.userAccount order by a.viewCount desc, a.id desc")
+    List<Article> findMostViewed(Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query("select a from Article a join fetch a.userAccount where a.id in :articleIds")
+    List<Article> findAllWithUserAccountByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    @RestResource(exported = false)
+    @Query("select a.id from Article a where a.id in :articleIds")
+    List<Long> findExistingIds(@Param("articleIds") Collection<Long> articleIds);
+
+    @RestResource(exported = false)
+    @Query("select max(a.id) from Article a")
+    Optional<Long> findMaxId();
+
+    /**
+     * 댓글 수를 읽지 않고 UPDATE 문 하나로 증감하고, 댓글 리비전을 올린다. 행 잠금 안에서 더하므로 동시에 댓글이 달려도 증가분을 잃지 않는다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("update Article a set a.commentCount = a.commentCount + :delta, a.commentRevision = a.commentRevision + 1 where a.id = :articleId")
+    int adjustCommentCount(@Param("articleId") Long articleId, @Param("delta") long delta);
+
+    /**
+     * 댓글이 수정되면 댓글 수는 그대로이므로 댓글 리비전만 올린다. 게시글 버전은 수정 폼의 낙관적 잠금에 쓰이므로 건드리지 않는다.
+     */
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @Query("update Article a set a.commentRevision = a.commentRevision + 1 where a.id = :articleId")
+    int increaseCommentRevision(@Param("articleId") Long articleId);
+
+    /**
+     * {@code (fromId, toId]} 구간에서 댓글 테이블과 어긋난 댓글 수만 실제 댓글 수로 고치고, 고친 게시글 수를 돌려준다.
+     */
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update Article a set a.commentCount = (select count(ac) from ArticleComment ac where ac.article.id = a.id) " +
+            "where a.id > :fromId and a.id <= :toId " +
+            "and a.commentCount <> (select count(ac) from ArticleComment ac where ac.article.id = a.id)")
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @RestResource(exported = false)
+    @Query("select max(a.modifiedAt) from Article a")
+    Optional<LocalDateTime> findLastModifiedAt();
 
     @Override
     default void customize(QuerydslBindings bindings, QArticle root) {
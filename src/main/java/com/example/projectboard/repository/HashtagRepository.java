@@ -0,0 +1,60 @@
+package com.example.projectboard.repository;
+
+import com.example.projectboard.domain.Hashtag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
+
+    List<Hashtag> findByHashtagNameIn(Collection<String> hashtagNames);
+
+    /**
+     * 다른 트랜잭션이 방금 만든 해시태그도 보이도록 잠금 조회(select ... for update)로 읽는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from Hashtag h where h.hashtagName in :hashtagNames")
+    List<Hashtag> findForUpdateByHashtagNameIn(@Param("hashtagNames") Collection<String> hashtagNames);
+
+    /**
+     * 해시태그가 없을 때만 넣는다. 같은 이름이 이미 있거나 다른 트랜잭션이 먼저 넣었으면 유니크 제약 위반 대신 아무것도 바꾸지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into hashtag (hashtag_name, article_count, created_at, created_by, modified_at, modified_by) " +
+            "values (:hashtagName, 0, :now, :createdBy, :now, :createdBy) " +
+            "on duplicate key update id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("hashtagName") String hashtagName, @Param("createdBy") String createdBy, @Param("now") LocalDateTime now);
+
+    @Query("select h.hashtagName from Hashtag h where h.articleCount > 0 order by h.hashtagName")
+    List<String> findAllHashtagNamesInUse();
+
+    @Query("select h from Hashtag h where h.articleCount > 0 order by h.articleCount desc, h.hashtagName")
+    List<Hashtag> findHashtagsInUse(Pageable pageable);
+
+    @Query("select h from Article a join a.hashtags h where a.id = :articleId")
+    List<Hashtag> findByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 게시글 엔티티를 읽지 않고 게시글-해시태그 연결 행을 넣는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into article_hashtag (article_id, hashtag_id) select :articleId, h.id from hashtag h where h.id in :hashtagIds", nativeQuery = true)
+    int linkArticle(@Param("articleId") Long articleId, @Param("hashtagIds") Collection<Long> hashtagIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from article_hashtag where article_id = :articleId and hashtag_id in :hashtagIds", nativeQuery = true)
+    int unlinkArticle(@Param("articleId") Long articleId, @Param("hashtagIds") Collection<Long> hashtagIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Hashtag h set h.articleCount = h.articleCount + :delta where h.id in :hashtagIds")
+    int adjustArticleCount(@Param("hashtagIds") Collection<Long> hashtagIds, @Param("delta") long delta);
+
+}
@@ -2,6 +2,15 @@ package com.example.projectboard.repository;
 
 import com.example.projectboard.domain.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, String> {
+
+    @Query("select u.userId from UserAccount u where u.userId in :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
 }
@@ -1,7 +1,23 @@
 package com.example.projectboard.repository.querydsl;
 
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import com.example.projectboard.dto.ArticleSummaryDto;
+import com.example.projectboard.dto.ArticleTitle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ArticleRepositoryCustom {
-    List<String> findAllDistinctHashtags();
+    List<ArticleSearchDocument> findSearchDocuments(Long lastArticleId, int limit);
+    List<ArticleTitle> findTitles(Long lastArticleId, int limit);
+    Page<ArticleSummaryDto> searchSummaries(SearchType searchType, String searchKeyword, Pageable pageable);
+    List<ArticleSummaryDto> searchSummaryContent(SearchType searchType, String searchKeyword, Pageable pageable);
+    List<ArticleSummaryDto> searchSummaryContent(SearchType searchType, String searchKeyword, Pageable pageable, long limit);
+    long countSummaries(SearchType searchType, String searchKeyword);
+    List<ArticleSummaryDto> findSummaryContentByUserIdIn(Collection<String> userIds, Pageable pageable, long limit);
+    List<ArticleSummaryDto> findSummaryContentByIdIn(Collection<Long> articleIds, Pageable pageable);
+    List<ArticleSummaryDto> findSummariesByIdIn(Collection<Long> articleIds);
 }
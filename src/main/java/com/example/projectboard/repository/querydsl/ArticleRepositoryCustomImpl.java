@@ -1,26 +1,168 @@
 package com.example.projectboard.repository.querydsl;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.QArticle;
+import com.example.projectboard.domain.QUserAccount;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import com.example.projectboard.dto.ArticleSummaryDto;
+import com.example.projectboard.dto.ArticleTitle;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.Collection;
 import java.util.List;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
+    private static final int CONTENT_PREVIEW_LENGTH = 100;
+
     public ArticleRepositoryCustomImpl() {
         super(Article.class);
     }
 
     @Override
-    public List<String> findAllDistinctHashtags() {
+    public List<ArticleSearchDocument> findSearchDocuments(Long lastArticleId, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleSearchDocument.class, article.id, article.title, article.content, article.createdAt))
+                .where(article.id.gt(lastArticleId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleTitle> findTitles(Long lastArticleId, int limit) {
         QArticle article = QArticle.article;
 
         return from(article)
-                .distinct()
-                .select(article.hashtag)
-                .where(article.hashtag.isNotNull())
+                .select(Projections.constructor(ArticleTitle.class, article.id, article.title))
+                .where(article.id.gt(lastArticleId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Page<ArticleSummaryDto> searchSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return findSummaries(searchCondition(searchType, searchKeyword), pageable);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> searchSummaryContent(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return summaryContent(searchCondition(searchType, searchKeyword), pageable);
+    }
+
+    /**
+     * 페이지 크기와 관계없이 현재 페이지 시작 위치부터 최대 {@code limit} 행을 읽는다. count 쿼리 없이 다음 페이지들이 있는지 알아낼 때 쓴다.
+     */
+    @Override
+    public List<ArticleSummaryDto> searchSummaryContent(SearchType searchType, String searchKeyword, Pageable pageable, long limit) {
+        return lookaheadContent(searchCondition(searchType, searchKeyword), pageable, limit);
+    }
+
+    /**
+     * 작성자 ID 목록으로 조회한다. {@code (userId, createdAt)} 인덱스를 타므로 유저 테이블에 부분 일치 조건을 거는 것보다 싸다.
+     */
+    @Override
+    public List<ArticleSummaryDto> findSummaryContentByUserIdIn(Collection<String> userIds, Pageable pageable, long limit) {
+        return lookaheadContent(QArticle.article.userAccount.userId.in(userIds), pageable, limit);
+    }
+
+    @Override
+    public long countSummaries(SearchType searchType, String searchKeyword) {
+        Long count = countQuery(searchCondition(searchType, searchKeyword)).fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummaryContentByIdIn(Collection<Long> articleIds, Pageable pageable) {
+        return summaryContent(QArticle.article.id.in(articleIds), pageable);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIdIn(Collection<Long> articleIds) {
+        return summaryQuery(QArticle.article.id.in(articleIds)).fetch();
+    }
+
+
+    private Page<ArticleSummaryDto> findSummaries(BooleanExpression condition, Pageable pageable) {
+        List<ArticleSummaryDto> content = summaryContent(condition, pageable);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery(condition)::fetchOne);
+    }
+
+    private List<ArticleSummaryDto> summaryContent(BooleanExpression condition, Pageable pageable) {
+        return getQuerydsl()
+                .applyPagination(pageable, summaryQuery(condition))
                 .fetch();
     }
 
+    private List<ArticleSummaryDto> lookaheadContent(BooleanExpression condition, Pageable pageable, long limit) {
+        return getQuerydsl()
+                .applySorting(pageable.getSort(), summaryQuery(condition))
+                .offset(pageable.getOffset())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPQLQuery<Long> countQuery(BooleanExpression condition) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(article.count())
+                .where(condition);
+    }
+
+    /**
+     * 목록 화면에 필요한 컬럼만 DTO 생성자로 바로 받는다. 엔티티가 영속성 컨텍스트에 올라가지 않고, 긴 본문도 앞부분만 읽는다.
+     */
+    private JPQLQuery<ArticleSummaryDto> summaryQuery(BooleanExpression condition) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(Projections.constructor(ArticleSummaryDto.class,
+                        article.id,
+                        article.title,
+                        article.content.substring(0, CONTENT_PREVIEW_LENGTH),
+                        article.hashtag,
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.email,
+                        userAccount.nickname,
+                        article.commentCount,
+                        article.version
+                ))
+                .where(condition);
+    }
+
+    private BooleanExpression searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.eq(Hashtag.normalize(searchKeyword));
+        };
+    }
+
 }
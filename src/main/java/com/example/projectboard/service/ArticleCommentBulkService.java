@@ -0,0 +1,138 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.CommentBulkConfig.CommentBulkProperties;
+import com.example.projectboard.dto.ArticleCommentBulkResult;
+import com.example.projectboard.dto.ArticleCommentBulkResult.Failure;
+import com.example.projectboard.dto.ArticleCommentBulkResult.Reason;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 일괄 등록. 이관이나 봇처럼 한 번에 수천 건이 들어오는 경우를 위해, 게시글/유저 존재 여부는 요청 전체에 대해 IN 조회 한 번씩으로 확인하고,
+ * 통과한 댓글은 {@code chunkSize} 건씩 나눠 트랜잭션마다 저장한다. 시퀀스 ID 라 Hibernate 가 INSERT 를 JDBC 배치로 묶는다.
+ * 한 묶음이 실패해도 나머지 묶음은 저장하고, 실패한 항목은 요청 목록에서의 위치와 이유로 알려 준다.
+ */
+@Slf4j
+@Service
+public class ArticleCommentBulkService {
+
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentBulkProperties properties;
+
+    public ArticleCommentBulkService(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            UserAccountRepository userAccountRepository,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            CommentBulkProperties properties
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    /**
+     * {@code requesterId} 가 요청한 댓글들을 저장한다. 다른 유저 명의의 댓글은 신뢰하는 계정이 요청했을 때만 저장한다.
+     */
+    public ArticleCommentBulkResult saveArticleComments(List<ArticleCommentDto> dtos, String requesterId) {
+        if (dtos.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 댓글 수를 넘었습니다 - 요청: " + dtos.size() + ", 최대: " + properties.getMaxItems());
+        }
+
+        Set<Long> articleIds = dtos.stream().map(ArticleCommentDto::articleId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> userIds = dtos.stream().map(this::authorId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> existingArticleIds = articleIds.isEmpty() ? Set.of() : new HashSet<>(articleRepository.findExistingIds(articleIds));
+        Set<String> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userAccountRepository.findExistingUserIds(userIds));
+        boolean trusted = properties.getTrustedUserIds().contains(requesterId);
+
+        List<Failure> failures = new ArrayList<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (int index = 0; index < dtos.size(); index++) {
+            Optional<Reason> rejection = validate(dtos.get(index), requesterId, trusted, existingArticleIds, existingUserIds);
+            if (rejection.isPresent()) {
+                failures.add(Failure.of(index, rejection.get()));
+            } else {
+                accepted.add(index);
+            }
+        }
+
+        int saved = 0;
+        for (int from = 0; from < accepted.size(); from += properties.getChunkSize()) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + properties.getChunkSize(), accepted.size()));
+            try {
+                transactionOperations.executeWithoutResult(status -> saveChunk(dtos, chunk));
+                saved += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("댓글 일괄 저장 중 묶음 저장 실패 - 항목 수: {}, 첫 항목 위치: {}", chunk.size(), chunk.get(0), e);
+                chunk.forEach(index -> failures.add(Failure.of(index, Reason.SAVE_FAILED)));
+            }
+        }
+        failures.sort(Comparator.comparingInt(Failure::index));
+
+        log.debug("댓글 일괄 저장 - 요청: {}, 저장: {}, 실패: {}", dtos.size(), saved, failures.size());
+        return ArticleCommentBulkResult.of(dtos.size(), saved, failures);
+    }
+
+
+    private Optional<Reason> validate(ArticleCommentDto dto, String requesterId, boolean trusted, Set<Long> existingArticleIds, Set<String> existingUserIds) {
+        String authorId = authorId(dto);
+        if (dto.content() == null || dto.content().isBlank() || dto.content().length() > MAX_CONTENT_LENGTH) {
+            return Optional.of(Reason.INVALID_CONTENT);
+        }
+        if (!existingArticleIds.contains(dto.articleId())) {
+            return Optional.of(Reason.ARTICLE_NOT_FOUND);
+        }
+        if (!trusted && !Objects.equals(authorId, requesterId)) {
+            return Optional.of(Reason.FORBIDDEN);
+        }
+        if (!existingUserIds.contains(authorId)) {
+            return Optional.of(Reason.USER_NOT_FOUND);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * 존재 여부를 이미 확인했으므로 게시글/유저는 조회 없이 참조만 걸어 저장한다.
+     * 댓글 수는 게시글마다 한 번씩, 여러 묶음이 동시에 돌아도 같은 순서로 잠그도록 게시글 ID 순으로 올린다.
+     */
+    private void saveChunk(List<ArticleCommentDto> dtos, List<Integer> chunk) {
+        List<ArticleCommentDto> chunkDtos = chunk.stream().map(dtos::get).toList();
+        articleCommentRepository.saveAll(chunkDtos.stream()
+                .map(dto -> dto.toEntity(
+                        articleRepository.getReferenceById(dto.articleId()),
+                        userAccountRepository.getReferenceById(authorId(dto))
+                ))
+                .toList());
+        chunkDtos.stream()
+                .collect(Collectors.groupingBy(ArticleCommentDto::articleId, TreeMap::new, Collectors.counting()))
+                .forEach(articleRepository::adjustCommentCount);
+        chunkDtos.forEach(dto -> eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, dto.articleId())));
+    }
+
+    private String authorId(ArticleCommentDto dto) {
+        return dto.userAccountDto() == null ? null : dto.userAccountDto().userId();
+    }
+
+}
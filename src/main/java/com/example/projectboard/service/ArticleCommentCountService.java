@@ -0,0 +1,79 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글에 저장해 둔 댓글 수를 댓글 테이블과 맞춘다. 댓글 수는 댓글 저장/삭제 때 UPDATE 문으로 증감하지만,
+ * 직접 넣은 데이터나 실패한 증감으로 어긋난 값은 주기적으로 다시 센다. 한 번에 많은 게시글을 잠그지 않도록 ID 구간별로 나눠 트랜잭션마다 고친다.
+ * 목록 화면의 ETag 에 쓰도록 댓글 수가 바뀔 때마다 올라가는 버전을 들고 있고, 마지막 보정에서 고친 게시글 수는 {@code board.articles.comment-count.drift} 지표로 노출한다.
+ */
+@Slf4j
+@Service
+public class ArticleCommentCountService {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionOperations transactionOperations;
+    private final int reconcileChunkSize;
+    // 재시작하면 버전을 처음부터 다시 세므로, 기동 시각(마이크로초)에서 시작해 이전 프로세스나 다른 인스턴스가 준 ETag 와 겹치지 않게 한다
+    private final AtomicLong version = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public ArticleCommentCountService(
+            ArticleRepository articleRepository,
+            TransactionOperations transactionOperations,
+            @Value("${board.comment-count.reconcile-chunk-size}") int reconcileChunkSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleRepository = articleRepository;
+        this.transactionOperations = transactionOperations;
+        this.reconcileChunkSize = reconcileChunkSize;
+        Gauge.builder("board.articles.comment-count.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 때 댓글 수를 고친 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.comment-count.reconcile-interval}",
+            fixedDelayString = "${board.comment-count.reconcile-interval}"
+    )
+    public void reconcile() {
+        long maxArticleId = articleRepository.findMaxId().orElse(0L);
+        long fixed = 0;
+        for (long fromId = 0; fromId < maxArticleId; fromId += reconcileChunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + reconcileChunkSize, maxArticleId);
+            Integer updated = transactionOperations.execute(status -> articleRepository.reconcileCommentCounts(from, to));
+            fixed += updated == null ? 0 : updated;
+        }
+        lastDrift.set(fixed);
+
+        if (fixed > 0) {
+            version.incrementAndGet();
+            log.warn("댓글 수 보정 - 고친 게시글 수: {}", fixed);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.type() != ArticleCommentEvent.Type.UPDATED) {
+            version.incrementAndGet();
+        }
+    }
+
+}
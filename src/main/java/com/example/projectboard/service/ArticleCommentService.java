@@ -7,13 +7,21 @@ import com.example.projectboard.dto.ArticleCommentDto;
 import com.example.projectboard.repository.ArticleCommentRepository;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,6 +32,8 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleCommentWriteQueue articleCommentWriteQueue;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
@@ -38,22 +48,57 @@ public class ArticleCommentService {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
             articleCommentRepository.save(dto.toEntity(article, userAccount));
+            articleRepository.adjustCommentCount(dto.articleId(), 1);
+            eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, dto.articleId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isWriteQueueEnabled() {
+        return articleCommentWriteQueue.isEnabled();
+    }
+
+    /**
+     * 댓글을 쓰기 큐에 넣어 다른 댓글과 함께 저장되게 한다. 요청 스레드는 트랜잭션이나 커넥션을 잡지 않고,
+     * 작성자가 리다이렉트된 게시글 화면에서 자기 댓글을 보도록 커밋까지만 최대 {@code readYourWritesTimeout} 동안 기다린다.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 큐가 가득 찬 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveArticleCommentQueued(ArticleCommentDto dto) {
+        CompletableFuture<Void> written = articleCommentWriteQueue.enqueue(dto);
+        try {
+            written.get(articleCommentWriteQueue.getReadYourWritesTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("댓글 저장이 늦어지고 있습니다. 작성자에게 바로 보이지 않을 수 있습니다 - 게시글: {}", dto.articleId());
+        } catch (ExecutionException e) {
+            log.warn("댓글 저장 실패 - {}", e.getCause().getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void updateArticleComment(ArticleCommentDto dto) {
         try {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
             if (dto.content() != null) { articleComment.setContent(dto.content()); }
+            articleRepository.increaseCommentRevision(articleComment.getArticle().getId());
+            eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.UPDATED, articleComment.getArticle().getId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
         }
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        Optional<Long> articleId = articleCommentRepository.findArticleIdById(articleCommentId);
+        if (articleCommentRepository.deleteByIdAndUserId(articleCommentId, userId) > 0) {
+            articleId.ifPresent(id -> {
+                articleRepository.adjustCommentCount(id, -1);
+                eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.DELETED, id));
+            });
+        }
     }
 
 }
@@ -0,0 +1,255 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.CommentQueueConfig.CommentQueueProperties;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 쓰기 큐. 인기 게시글에 댓글이 몰릴 때 요청마다 트랜잭션을 열어 같은 게시글의 인덱스 페이지를 두고 다투지 않도록,
+ * 게시글 ID 로 나눈 샤드마다 쓰기 스레드 하나가 큐에 쌓인 댓글을 모아 한 트랜잭션으로 저장한다.
+ * 큐는 크기가 정해져 있어서 가득 차면 바로 거절하고, 호출한 쪽은 돌려받은 {@link CompletableFuture} 로 커밋을 기다릴 수 있다.
+ */
+@Slf4j
+@Component
+public class ArticleCommentWriteQueue {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentQueueProperties properties;
+    private final List<BlockingQueue<PendingComment>> shards = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock(); // 큐에 넣는 쪽은 읽기 잠금, 닫는 쪽은 쓰기 잠금
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+
+    public ArticleCommentWriteQueue(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            UserAccountRepository userAccountRepository,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            CommentQueueProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.rejected = Counter.builder("board.comments.queue.rejected")
+                .description("큐가 가득 차 거절한 댓글 수")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("board.comments.queue.batch.size")
+                .description("한 트랜잭션에 모아 저장한 댓글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.comments.queue.size", this, ArticleCommentWriteQueue::size)
+                .description("저장을 기다리는 댓글 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        for (int i = 0; i < properties.getShards(); i++) {
+            BlockingQueue<PendingComment> shard = new ArrayBlockingQueue<>(properties.getCapacity());
+            shards.add(shard);
+            writers.add(new Thread(() -> drain(shard), "comment-writer-" + i));
+        }
+        running = true; // 샤드 목록을 다 만든 뒤에 열어야 다른 스레드가 완성된 목록을 본다
+        writers.forEach(Thread::start);
+    }
+
+    /**
+     * 종료 시 새 댓글은 받지 않고, 이미 받은 댓글은 모두 저장한 뒤 끝낸다.
+     * 큐에 넣고 있던 요청이 끝난 뒤에 닫으므로, 닫힌 뒤 쓰기 스레드가 큐를 비우고 끝날 때 받은 댓글이 남지 않는다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    public Duration getReadYourWritesTimeout() {
+        return properties.getReadYourWritesTimeout();
+    }
+
+    /**
+     * 댓글을 큐에 넣는다. 돌려받은 future 는 댓글이 커밋되면 완료된다.
+     *
+     * @throws RejectedExecutionException 큐가 꺼져 있거나 가득 찬 경우
+     */
+    public CompletableFuture<Void> enqueue(ArticleCommentDto dto) {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        PendingComment pending = new PendingComment(dto, securityContext, new CompletableFuture<>());
+
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException("댓글 쓰기 큐가 동작하고 있지 않습니다");
+            }
+            if (!shards.get(Math.floorMod(dto.articleId().hashCode(), shards.size())).offer(pending)) {
+                rejected.increment();
+                throw new RejectedExecutionException("댓글 쓰기 큐가 가득 찼습니다 - 게시글: " + dto.articleId());
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        return pending.written();
+    }
+
+    public int size() {
+        return shards.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+
+    private void drain(BlockingQueue<PendingComment> shard) {
+        while (running || !shard.isEmpty()) {
+            try {
+                List<PendingComment> batch = collectBatch(shard);
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("댓글 쓰기 스레드에서 예상하지 못한 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 댓글을 기다린 뒤, 최대 {@code maxBatchDelay} 동안 최대 {@code maxBatchSize} 개까지 더 모은다.
+     */
+    private List<PendingComment> collectBatch(BlockingQueue<PendingComment> shard) throws InterruptedException {
+        List<PendingComment> batch = new ArrayList<>();
+        PendingComment first = shard.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.getMaxBatchDelay().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            shard.drainTo(batch, properties.getMaxBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.getMaxBatchSize() || remaining <= 0) {
+                break;
+            }
+            PendingComment next = shard.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        return batch;
+    }
+
+    /**
+     * 모은 댓글을 한 트랜잭션으로 저장한다. 실패하면 어느 댓글 때문인지 가리기 위해 한 건씩 다시 저장한다.
+     */
+    private void write(List<PendingComment> batch) {
+        batchSizes.record(batch.size());
+        try {
+            transactionOperations.executeWithoutResult(status -> persist(batch));
+            batch.forEach(pending -> pending.written().complete(null));
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            log.warn("댓글 묶음 저장 실패. 한 건씩 다시 저장합니다 - 댓글 수: {}", batch.size(), e);
+        }
+
+        for (PendingComment pending : batch) {
+            try {
+                transactionOperations.executeWithoutResult(status -> persist(List.of(pending)));
+                pending.written().complete(null);
+            } catch (RuntimeException e) {
+                fail(pending, e);
+            }
+        }
+    }
+
+    /**
+     * 작성자/수정자 감사 필드는 persist 시점의 인증 정보로 채워지므로, 댓글마다 요청 스레드의 인증 정보를 잠시 옮겨 와 저장한다.
+     * INSERT 는 커밋 때 한꺼번에 나가므로 JDBC 배치로 묶이고, 댓글 수는 게시글마다 한 번만 올린다.
+     */
+    private void persist(List<PendingComment> batch) {
+        for (PendingComment pending : batch) {
+            ArticleCommentDto dto = pending.dto();
+            SecurityContextHolder.setContext(pending.securityContext());
+            try {
+                articleCommentRepository.save(dto.toEntity(
+                        articleRepository.getReferenceById(dto.articleId()),
+                        userAccountRepository.getReferenceById(dto.userAccountDto().userId())
+                ));
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+            eventPublisher.publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, dto.articleId()));
+        }
+        batch.stream()
+                .collect(Collectors.groupingBy(pending -> pending.dto().articleId(), TreeMap::new, Collectors.counting()))
+                .forEach(articleRepository::adjustCommentCount);
+    }
+
+    private void fail(PendingComment pending, RuntimeException e) {
+        log.warn("댓글 저장 실패 - 게시글: {}, 유저: {}", pending.dto().articleId(), pending.dto().userAccountDto().userId(), e);
+        pending.written().completeExceptionally(e);
+    }
+
+
+    private record PendingComment(ArticleCommentDto dto, SecurityContext securityContext, CompletableFuture<Void> written) {}
+
+}
@@ -0,0 +1,97 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수를 메모리에 들고 있으면서 게시글 생성/삭제 이벤트로 갱신한다.
+ * 상세 페이지마다 {@code count(*)} 를 날리지 않기 위함이며, 어긋난 값은 주기적으로 DB 와 맞춘다.
+ * 보정은 DB 값으로 덮어쓰지 않고 조회 전 캐시 값과의 차이만 더하므로, 조회 뒤에 받은 이벤트를 잃지 않는다.
+ * 조회하는 동안 이벤트를 받았으면 그 이벤트가 DB 값에 들어갔는지 알 수 없으므로 이번 보정은 건너뛴다.
+ * 현재 값과 마지막 보정 시 차이는 {@code board.articles.count}, {@code board.articles.count.drift} 지표로 노출한다.
+ */
+@Slf4j
+@Service
+public class ArticleCountService {
+
+    private final ArticleRepository articleRepository;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final AtomicLong eventSequence = new AtomicLong(); // 받은 생성/삭제 이벤트 수. 보정 중에 이벤트가 왔는지 알아챈다
+    private volatile boolean seeded;
+
+    public ArticleCountService(ArticleRepository articleRepository, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        Gauge.builder("board.articles.count", this, ArticleCountService::getCount)
+                .description("캐시된 전체 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.articles.count.drift", lastDrift, AtomicLong::get)
+                .description("마지막 보정 시 DB 값과 캐시 값의 차이")
+                .register(meterRegistry);
+    }
+
+    public long getCount() {
+        if (!seeded) {
+            seed();
+        }
+        return count.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void seed() {
+        if (seeded) {
+            return;
+        }
+        count.set(articleRepository.count());
+        seeded = true;
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.article-count.reconcile-interval}",
+            fixedDelayString = "${board.article-count.reconcile-interval}"
+    )
+    public void reconcile() {
+        long sequence = eventSequence.get();
+        long expected = count.get();
+        long actual = articleRepository.count();
+        if (eventSequence.get() != sequence) {
+            log.debug("게시글 수 조회 중 게시글이 생성/삭제되어 이번 보정은 건너뜀");
+            return;
+        }
+
+        long drift = actual - expected;
+        count.addAndGet(drift);
+        lastDrift.set(drift);
+        seeded = true;
+
+        if (drift != 0) {
+            log.warn("게시글 수 캐시 보정 - 실제: {}, 차이: {}", actual, drift);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                eventSequence.incrementAndGet();
+                count.incrementAndGet();
+            }
+            case DELETED -> {
+                eventSequence.incrementAndGet();
+                count.decrementAndGet();
+            }
+            case UPDATED -> { }
+        }
+    }
+
+}
@@ -1,21 +1,50 @@
 package com.example.projectboard.service;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ApproximatePage;
+import com.example.projectboard.dto.ArticleCursor;
 import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleModification;
+import com.example.projectboard.dto.ArticleSummaryDto;
 import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.UserLookupIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,22 +52,87 @@ import java.util.List;
 @Service
 public class ArticleService {
 
+    private static final int MAX_INDEXED_IDS_FOR_DB_SORT = 1_000;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int SEARCH_LOOKAHEAD_PAGES = 2; // 페이지네이션 바에 현재 페이지 뒤로 보이는 페이지 수만큼 더 읽는다
+
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final UserLookupIndex userLookupIndex;
+    private final ArticleCountService articleCountService;
+    private final ArticleCommentCountService articleCommentCountService;
+    private final HashtagService hashtagService;
+    private final HashtagCatalog hashtagCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelQueries parallelQueries;
 
+    /**
+     * 목록 화면용 검색. 엔티티 대신 목록에 필요한 컬럼만 프로젝션으로 조회하고, count 쿼리는 날리지 않는다.
+     * 검색어가 없으면 메모리에 들고 있는 전체 게시글 수를, 색인 검색이면 색인의 일치 건수를 쓰고,
+     * DB 검색이면 {@link ApproximatePage} 로 전체 건수 대신 그 하한을 준다.
+     * 유저 ID/닉네임 검색은 유저 색인에서 일치하는 유저 ID 를 먼저 찾아 작성자 ID 로 조회한다.
+     */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return new PageImpl<>(articleRepository.searchSummaryContent(null, null, pageable), pageable, articleCountService.getCount());
+        }
+
+        if (articleSearchIndex.supports(searchType, searchKeyword) && articleSearchIndex.isReady()) {
+            Optional<Page<ArticleSummaryDto>> indexed = searchArticlesViaIndex(searchType, searchKeyword, pageable);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
         }
 
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag("#" + searchKeyword, pageable).map(ArticleDto::from);
-        };
+        long limit = (long) pageable.getPageSize() * (1 + SEARCH_LOOKAHEAD_PAGES) + 1;
+        Optional<Set<String>> userIds = userLookupIndex.findUserIds(searchType, searchKeyword);
+        if (userIds.isPresent()) {
+            if (userIds.get().isEmpty()) {
+                return Page.empty(pageable);
+            }
+            return ApproximatePage.fromLookahead(
+                    articleRepository.findSummaryContentByUserIdIn(userIds.get(), pageable, limit),
+                    pageable,
+                    limit,
+                    () -> articleRepository.countByUserAccount_UserIdIn(userIds.get())
+            );
+        }
+
+        String keyword = searchType == SearchType.HASHTAG ? "#" + searchKeyword : searchKeyword;
+        List<ArticleSummaryDto> rows = articleRepository.searchSummaryContent(searchType, keyword, pageable, limit);
+
+        return ApproximatePage.fromLookahead(rows, pageable, limit, () -> articleRepository.countSummaries(searchType, keyword));
+    }
+
+    /**
+     * 커서보다 오래된 게시글을 최신순으로 조회한다. 커서가 없으면 첫 페이지를 조회한다.
+     * 페이지 깊이와 관계없이 (createdAt, id) 범위 조건으로 바로 찾아가며, count 쿼리를 쓰지 않는다.
+     * 페이지 크기는 1 ~ {@value #MAX_CURSOR_PAGE_SIZE} 로 맞춘다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleDto> searchOlderArticles(ArticleCursor cursor, int size) {
+        size = cursorPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Article> articles = cursor == null
+                ? articleRepository.findLatest(limit)
+                : articleRepository.findOlderThan(cursor.createdAt(), cursor.id(), limit);
+
+        return toSlice(articles, size, false);
+    }
+
+    /**
+     * 커서보다 최신인 게시글을 조회한다. 결과는 화면 순서(최신순)로 뒤집어 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleDto> searchNewerArticles(ArticleCursor cursor, int size) {
+        size = cursorPageSize(size);
+        List<Article> articles = articleRepository.findNewerThan(cursor.createdAt(), cursor.id(), PageRequest.of(0, size + 1));
+
+        return toSlice(articles, size, true);
     }
 
     @Transactional(readOnly = true)
@@ -48,6 +142,34 @@ public class ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    /**
+     * 게시글(+작성자)과 댓글 한 페이지(+작성자)를 각각 한 번의 쿼리로 조회한다.
+     * 댓글 전체 컬렉션을 초기화하지 않으므로, 댓글이 많은 게시글도 페이지 크기만큼만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public ArticleWithCommentsDto getArticleWithComments(Long articleId, Pageable commentPageable) {
+        Article article = articleRepository.findById(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+        Pageable pageable = PageRequest.of(
+                commentPageable.getPageNumber(),
+                Math.min(commentPageable.getPageSize(), MAX_COMMENT_PAGE_SIZE),
+                commentPageable.getSort().and(Sort.by(Sort.Direction.DESC, "id"))
+        );
+        Slice<ArticleComment> articleComments = articleCommentRepository.findSliceByArticleId(articleId, pageable);
+
+        return ArticleWithCommentsDto.from(article, articleComments);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ArticleModification> getArticleModification(Long articleId) {
+        return articleRepository.findModificationById(articleId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getLastModifiedAt() {
+        return articleRepository.findLastModifiedAt();
+    }
+
     @Transactional(readOnly = true)
     public ArticleDto getArticle(Long articleId) {
         return articleRepository.findById(articleId)
@@ -57,43 +179,158 @@ public class ArticleService {
 
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        articleRepository.save(dto.toEntity(userAccount));
+        Article article = dto.toEntity(userAccount);
+        Set<Hashtag> hashtags = hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(dto.hashtag(), dto.content()));
+        article.addHashtags(hashtags);
+        articleRepository.save(article);
+        hashtagService.increaseArticleCount(hashtags);
+        eventPublisher.publishEvent(ArticleEvent.of(ArticleEvent.Type.CREATED, article));
     }
 
+    /**
+     * 작성자/버전 확인과 수정을 UPDATE 문 하나로 하므로 게시글과 작성자를 엔티티로 읽지 않는다.
+     * 해시태그는 바뀐 것만 연결 테이블에 반영하고, 이벤트에 필요한 값만 프로젝션으로 다시 읽는다.
+     *
+     * @throws OptimisticLockingFailureException 수정 폼을 연 뒤 다른 곳에서 먼저 수정된 경우
+     */
     public void updateArticle(Long articleId, ArticleDto dto) {
-        try {
-            Article article = articleRepository.getReferenceById(articleId);
-            UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-
-            if (article.getUserAccount().equals(userAccount)) {
-                if (dto.title() != null) { article.setTitle(dto.title()); }
-                if (dto.content() != null) { article.setContent(dto.content()); }
-                article.setHashtag(dto.hashtag());
+        String userId = dto.userAccountDto().userId();
+        if (articleRepository.updateByIdAndUserId(articleId, userId, dto.version(), dto.title(), dto.content(), dto.hashtag(), LocalDateTime.now()) == 0) {
+            if (dto.version() != null && articleRepository.existsByIdAndUserAccount_UserId(articleId, userId)) {
+                throw new OptimisticLockingFailureException("게시글이 다른 곳에서 먼저 수정되었습니다 - articleId: " + articleId + ", version: " + dto.version());
             }
-        } catch (EntityNotFoundException e) {
-            log.warn("게시글 업데이트 실패. 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
+            log.warn("게시글 업데이트 실패. 게시글이 없거나 작성자가 아닙니다 - articleId: {}, userId: {}", articleId, userId);
+            return;
         }
+
+        articleRepository.findSearchDocumentById(articleId).ifPresent(article -> {
+            renewHashtags(articleId, dto.hashtag(), article.content());
+            eventPublisher.publishEvent(ArticleEvent.ofUpdated(article, dto.hashtag()));
+        });
     }
 
+    /**
+     * 작성자가 아니면 아무것도 지우지 않는다. 댓글과 해시태그 연결은 엔티티를 읽지 않고 DELETE 문으로 먼저 지우므로, 댓글이 많은 게시글도 지우는 비용이 같다.
+     */
     public void deleteArticle(long articleId, String userId) {
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        if (!articleRepository.existsByIdAndUserAccount_UserId(articleId, userId)) {
+            return;
+        }
+
+        List<Hashtag> hashtags = hashtagService.getHashtagsOfArticle(articleId);
+        int deletedComments = articleCommentRepository.deleteByArticleId(articleId);
+        hashtagService.unlinkArticle(articleId, hashtags);
+        if (articleRepository.deleteByIdAndUserId(articleId, userId) > 0) {
+            hashtagService.decreaseArticleCount(hashtags);
+            eventPublisher.publishEvent(ArticleEvent.ofDeleted(articleId));
+            log.debug("게시글 삭제 - articleId: {}, 함께 지운 댓글 수: {}", articleId, deletedComments);
+        }
     }
 
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.getCount();
     }
 
-    @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
+    /** 목록에 보이는 댓글 수가 바뀔 때마다 올라가는 값. 목록 화면 ETag 에 쓴다. */
+    public long getCommentCountVersion() {
+        return articleCommentCountService.getVersion();
+    }
+
+    /**
+     * 목록 쿼리와 건수 쿼리는 서로 독립이므로 각자의 트랜잭션에서 동시에 실행한다.
+     * 이 메서드는 트랜잭션을 열지 않아 호출 스레드가 커넥션을 쥔 채 기다리지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
         if (hashtag == null || hashtag.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtag(hashtag, pageable).map(ArticleDto::from);
+        try (ParallelQueries.Scope scope = parallelQueries.open()) {
+            Supplier<List<ArticleSummaryDto>> content = scope.fork(() -> articleRepository.searchSummaryContent(SearchType.HASHTAG, hashtag, pageable));
+            Supplier<Long> totalCount = scope.fork(() -> articleRepository.countSummaries(SearchType.HASHTAG, hashtag));
+            scope.join();
+
+            return new PageImpl<>(content.get(), pageable, totalCount.get());
+        }
     }
 
     public List<String> getHashtags() {
-        return articleRepository.findAllDistinctHashtags();
+        return hashtagCatalog.getHashtagNames();
+    }
+
+
+    /**
+     * 색인에서 일치하는 게시글 ID 를 찾은 뒤, 요청한 페이지의 게시글만 ID 로 조회한다.
+     * 작성일시 정렬은 색인에서 바로 처리하고, 그 외 정렬은 일치 건수가 적을 때만 DB 에 맡긴다.
+     */
+    private Optional<Page<ArticleSummaryDto>> searchArticlesViaIndex(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Optional<Sort.Direction> createdAtDirection = createdAtDirection(pageable.getSort());
+        List<Long> articleIds = articleSearchIndex.search(searchType, searchKeyword, createdAtDirection.orElse(Sort.Direction.DESC));
+
+        if (createdAtDirection.isEmpty()) {
+            if (articleIds.size() > MAX_INDEXED_IDS_FOR_DB_SORT) {
+                return Optional.empty();
+            }
+            return Optional.of(new PageImpl<>(articleRepository.findSummaryContentByIdIn(articleIds, pageable), pageable, articleIds.size()));
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), articleIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), articleIds.size());
+        List<Long> pageArticleIds = articleIds.subList(fromIndex, toIndex);
+
+        Map<Long, ArticleSummaryDto> articles = articleRepository.findSummariesByIdIn(pageArticleIds).stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+        List<ArticleSummaryDto> content = pageArticleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return Optional.of(new PageImpl<>(content, pageable, articleIds.size()));
+    }
+
+    private void renewHashtags(Long articleId, String hashtag, String content) {
+        Set<Hashtag> hashtags = hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(hashtag, content));
+        Set<Hashtag> current = new HashSet<>(hashtagService.getHashtagsOfArticle(articleId));
+
+        Set<Hashtag> removed = new HashSet<>(current);
+        removed.removeAll(hashtags);
+        Set<Hashtag> added = new HashSet<>(hashtags);
+        added.removeAll(current);
+
+        hashtagService.unlinkArticle(articleId, removed);
+        hashtagService.linkArticle(articleId, added);
+        hashtagService.decreaseArticleCount(removed);
+        hashtagService.increaseArticleCount(added);
+    }
+
+    private int cursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private Slice<ArticleDto> toSlice(List<Article> articles, int size, boolean reversed) {
+        boolean hasMore = articles.size() > size;
+        List<ArticleDto> content = new ArrayList<>(articles.subList(0, Math.min(size, articles.size())).stream()
+                .map(ArticleDto::from)
+                .toList());
+        if (reversed) {
+            Collections.reverse(content);
+        }
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasMore);
+    }
+
+    private Optional<Sort.Direction> createdAtDirection(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Optional.of(Sort.Direction.DESC);
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() == 1 && orders.get(0).getProperty().equals("createdAt")) {
+            return Optional.of(orders.get(0).getDirection());
+        }
+
+        return Optional.empty();
     }
 
 }
@@ -0,0 +1,141 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleRankDto;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleViewEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수. 조회마다 행을 잠그지 않도록 조회는 메모리의 {@link LongAdder} 에만 더하고,
+ * 주기적으로 게시글별 증가분을 모아 한 번의 JDBC 배치로 DB 에 반영한다. 종료 시에도 남은 증가분을 반영한다.
+ * 배치는 한 트랜잭션에서 돌리므로, 중간에 실패하면 이미 반영된 행도 되돌아가 다음 반영 때 증가분 전체를 다시 더해도 두 번 세지 않는다.
+ */
+@Slf4j
+@Service
+public class ArticleViewCountService {
+
+    private static final int RANKING_SIZE = 10;
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>(); // 직전 반영 때 빠진 카운터. 늦게 더해진 값을 다음 반영 때 챙긴다
+    private final Counter flushedViews;
+    private volatile List<ArticleRankDto> mostViewed;
+
+    public ArticleViewCountService(
+            ArticleRepository articleRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.flushedViews = Counter.builder("board.articles.views.flushed")
+                .description("DB 에 반영한 조회수")
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 조회수 상위 게시글. 조회수를 반영할 때마다 다시 계산해 두므로 요청마다 정렬 쿼리를 날리지 않는다.
+     */
+    public List<ArticleRankDto> getMostViewedArticles() {
+        List<ArticleRankDto> ranking = mostViewed;
+        if (ranking == null) {
+            ranking = refreshMostViewed();
+        }
+
+        return ranking;
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.view-count.flush-interval}",
+            fixedDelayString = "${board.view-count.flush-interval}"
+    )
+    public synchronized void flush() {
+        Map<Long, Long> deltas = collectDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey()) // 여러 인스턴스가 동시에 반영해도 같은 순서로 잠그도록
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        try {
+            transactionOperations.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate("update article set view_count = view_count + ? where id = ?", batchArgs));
+            flushedViews.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패. 다음 반영 때 다시 시도합니다 - 게시글 수: {}", deltas.size(), e);
+            deltas.forEach((articleId, delta) -> pending.computeIfAbsent(articleId, id -> new LongAdder()).add(delta));
+            return;
+        }
+
+        refreshMostViewed();
+        eventPublisher.publishEvent(ArticleViewEvent.of(deltas));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush(); // 첫 반영에서 빠진 카운터에 늦게 더해진 값까지 반영한다
+    }
+
+
+    private Map<Long, Long> collectDeltas() {
+        Map<Long, Long> deltas = new HashMap<>();
+        retired.forEach(entry -> addDelta(deltas, entry.getKey(), entry.getValue().sumThenReset()));
+        retired.clear();
+
+        pending.forEach((articleId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                addDelta(deltas, articleId, delta);
+            } else if (pending.remove(articleId, adder)) {
+                retired.add(Map.entry(articleId, adder)); // 한 주기 동안 조회가 없던 게시글은 맵에서 뺀다
+            }
+        });
+
+        return deltas;
+    }
+
+    private void addDelta(Map<Long, Long> deltas, Long articleId, long delta) {
+        if (delta > 0) {
+            deltas.merge(articleId, delta, Long::sum);
+        }
+    }
+
+    private List<ArticleRankDto> refreshMostViewed() {
+        List<ArticleRankDto> ranking = articleRepository.findMostViewed(PageRequest.of(0, RANKING_SIZE)).stream()
+                .map(article -> ArticleRankDto.of(ArticleDto.from(article), article.getViewCount()))
+                .toList();
+        mostViewed = ranking;
+
+        return ranking;
+    }
+
+}
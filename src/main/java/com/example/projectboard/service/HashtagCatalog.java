@@ -0,0 +1,138 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.event.HashtagEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 해시태그 이름과 게시글 수를 메모리에 들고 있는 카탈로그. 해시태그 페이지마다 DB 를 읽지 않기 위함이다.
+ * 기동 시 게시글 수가 많은 순으로 최대 {@code maxSize} 개를 적재하고, 이후에는 {@link HashtagEvent} 로 증감만 반영한다.
+ * 크기 제한 때문에 잘려 나간 해시태그가 있는 상태에서 정확한 값을 알 수 없게 되면 다음 조회 때 DB 에서 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class HashtagCatalog {
+
+    private final HashtagRepository hashtagRepository;
+    private final int maxSize;
+    private final Map<String, Long> frequencies = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rebuilds;
+
+    private boolean complete;
+    private boolean stale = true;
+    private volatile Map<String, Long> snapshot;
+
+    public HashtagCatalog(
+            HashtagRepository hashtagRepository,
+            MeterRegistry meterRegistry,
+            @Value("${board.hashtag-catalog.max-size}") int maxSize
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("board.hashtag.catalog.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("board.hashtag.catalog.requests").tag("result", "miss").register(meterRegistry);
+        this.rebuilds = Counter.builder("board.hashtag.catalog.rebuilds").register(meterRegistry);
+        Gauge.builder("board.hashtag.catalog.size", this, HashtagCatalog::size).register(meterRegistry);
+    }
+
+    /** 해시태그 이름 순으로 정렬한 '#해시태그' -> 게시글 수 */
+    public Map<String, Long> getHashtagFrequencies() {
+        Map<String, Long> current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+
+        return refresh();
+    }
+
+    public List<String> getHashtagNames() {
+        return List.copyOf(getHashtagFrequencies().keySet());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Hashtag> hashtags = hashtagRepository.findHashtagsInUse(PageRequest.of(0, maxSize + 1));
+
+        frequencies.clear();
+        hashtags.stream()
+                .limit(maxSize)
+                .forEach(hashtag -> frequencies.put(hashtag.getHashtagName(), hashtag.getArticleCount()));
+        complete = hashtags.size() <= maxSize;
+        stale = false;
+        snapshot = null;
+        rebuilds.increment();
+
+        log.debug("해시태그 카탈로그 적재 - 해시태그 수: {}, 전체 적재 여부: {}", frequencies.size(), complete);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onHashtagEvent(HashtagEvent event) {
+        for (String hashtagName : event.hashtagNames()) {
+            if (!complete && !frequencies.containsKey(hashtagName)) {
+                stale = true; // 잘려 나간 해시태그는 실제 게시글 수를 모른다
+                continue;
+            }
+
+            long articleCount = frequencies.merge(hashtagName, event.delta(), Long::sum);
+            if (articleCount <= 0) {
+                frequencies.remove(hashtagName);
+                stale |= !complete; // 잘려 나갔던 해시태그가 빈 자리에 들어와야 한다
+            }
+        }
+
+        if (frequencies.size() > maxSize) {
+            evictLeastFrequent();
+        }
+        snapshot = null;
+    }
+
+    public synchronized int size() {
+        return frequencies.size();
+    }
+
+
+    private synchronized Map<String, Long> refresh() {
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        if (stale) {
+            misses.increment();
+            rebuild();
+        } else {
+            hits.increment();
+        }
+
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        new TreeMap<>(frequencies).forEach((name, count) -> sorted.put("#" + name, count));
+        snapshot = Collections.unmodifiableMap(sorted);
+
+        return snapshot;
+    }
+
+    private void evictLeastFrequent() {
+        frequencies.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(frequencies.size() - maxSize)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(frequencies::remove);
+        complete = false;
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.event.HashtagEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class HashtagService {
+
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\p{L}\\p{N}_]+)");
+    private static final int MAX_HASHTAG_NAME_LENGTH = 50;
+
+    private final HashtagRepository hashtagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * 해시태그 입력란과 본문에서 {@code #태그} 를 모두 찾는다.
+     * 해시태그 입력란에 '#' 없이 단어만 적었다면 공백/쉼표로 나눈 각 단어를 해시태그로 본다.
+     */
+    public Set<String> parseHashtagNames(String hashtag, String content) {
+        Set<String> hashtagNames = new LinkedHashSet<>(findHashtagNames(hashtag));
+        if (hashtagNames.isEmpty() && hashtag != null && !hashtag.isBlank()) {
+            Arrays.stream(hashtag.split("[\\s,]+"))
+                    .map(Hashtag::normalize)
+                    .filter(name -> !name.isBlank())
+                    .forEach(hashtagNames::add);
+        }
+        hashtagNames.addAll(findHashtagNames(content));
+        hashtagNames.removeIf(name -> name.length() > MAX_HASHTAG_NAME_LENGTH);
+
+        return hashtagNames;
+    }
+
+    /**
+     * 이름에 해당하는 해시태그를 찾고, 없는 해시태그는 새로 만든다.
+     * 같은 새 해시태그를 여러 요청이 동시에 만들 수 있으므로, 이름이 이미 있으면 아무것도 하지 않는 upsert 로 게시글 저장과 같은 트랜잭션에서 넣는다.
+     * 제약 위반 예외가 나지 않으니 트랜잭션이 롤백 전용으로 바뀌지 않고, 커넥션을 하나 더 잡지 않으며, 게시글 저장이 롤백되면 새 해시태그도 함께 롤백된다.
+     * 새로 만든 해시태그는 잠금 조회로 다시 읽는다. 잠금 조회는 최신 커밋을 읽으므로 REPEATABLE READ 에서도 다른 트랜잭션이 만든 행이 보인다.
+     */
+    public Set<Hashtag> findOrCreateHashtags(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Hashtag> hashtags = new LinkedHashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+        Set<String> existingNames = hashtags.stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toSet());
+        Set<String> missingNames = hashtagNames.stream()
+                .filter(name -> !existingNames.contains(name))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (missingNames.isEmpty()) {
+            return hashtags;
+        }
+
+        String creator = auditorAware.getCurrentAuditor()
+                .orElseThrow(() -> new IllegalStateException("해시태그를 만드는 사용자를 알 수 없습니다."));
+        LocalDateTime now = LocalDateTime.now();
+        missingNames.forEach(name -> hashtagRepository.insertIfAbsent(name, creator, now));
+        hashtags.addAll(hashtagRepository.findForUpdateByHashtagNameIn(missingNames));
+
+        return hashtags;
+    }
+
+    public void increaseArticleCount(Collection<Hashtag> hashtags) {
+        adjustArticleCount(hashtags, 1);
+    }
+
+    public void decreaseArticleCount(Collection<Hashtag> hashtags) {
+        adjustArticleCount(hashtags, -1);
+    }
+
+    /**
+     * 해시태그별 게시글 수를 DB 에서 바꾸고, 커밋 이후 해시태그 카탈로그에 반영되도록 이벤트를 발행한다.
+     */
+    public void adjustArticleCount(Collection<Hashtag> hashtags, long delta) {
+        if (hashtags.isEmpty()) {
+            return;
+        }
+
+        hashtagRepository.adjustArticleCount(hashtags.stream().map(Hashtag::getId).toList(), delta);
+        eventPublisher.publishEvent(HashtagEvent.of(
+                hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toSet()),
+                delta
+        ));
+    }
+
+    /**
+     * 게시글 엔티티를 읽지 않고 게시글과 해시태그를 잇는다. 해시태그별 게시글 수는 바꾸지 않는다.
+     */
+    public void linkArticle(Long articleId, Collection<Hashtag> hashtags) {
+        if (!hashtags.isEmpty()) {
+            hashtagRepository.linkArticle(articleId, hashtags.stream().map(Hashtag::getId).toList());
+        }
+    }
+
+    public void unlinkArticle(Long articleId, Collection<Hashtag> hashtags) {
+        if (!hashtags.isEmpty()) {
+            hashtagRepository.unlinkArticle(articleId, hashtags.stream().map(Hashtag::getId).toList());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Hashtag> getHashtagsOfArticle(Long articleId) {
+        return hashtagRepository.findByArticleId(articleId);
+    }
+
+    /**
+     * 게시글이 한 개 이상 달린 해시태그 목록. 해시태그 테이블만 읽으므로 게시글 테이블을 스캔하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<String> getHashtagNames() {
+        return hashtagRepository.findAllHashtagNamesInUse().stream()
+                .map(name -> "#" + name)
+                .toList();
+    }
+
+
+    private List<String> findHashtagNames(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> hashtagNames = new ArrayList<>();
+        Matcher matcher = HASHTAG_PATTERN.matcher(text);
+        while (matcher.find()) {
+            hashtagNames.add(Hashtag.normalize(matcher.group(1)));
+        }
+
+        return hashtagNames;
+    }
+
+}
@@ -1,8 +1,12 @@
 package com.example.projectboard.service;
 
+import com.example.projectboard.dto.ApproximatePage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 @Service
@@ -11,6 +15,9 @@ public class PaginationService {
     private static final int BAR_LENGTH = 5;
 
 
+    /**
+     * {@code totalPages} 가 {@link ApproximatePage} 처럼 하한이어도 그대로 쓸 수 있다. 하한까지는 페이지가 있음이 확실하다.
+     */
     public List<Integer> getPaginationBarNumbers(int currentPageNumber, int totalPages) {
         int startNumber = Math.max(currentPageNumber - (BAR_LENGTH / 2), 0);
         int endNumber = Math.min(startNumber + BAR_LENGTH, totalPages);
@@ -18,8 +25,43 @@ public class PaginationService {
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
+    /**
+     * 전체 페이지 수 없이 이전/다음 이동만 하는 커서 페이지네이션 바를 만든다.
+     *
+     * @param slice 화면 순서대로 정렬된 현재 페이지
+     * @param cursorOf 항목으로 커서 문자열을 만드는 함수
+     * @param backward 이전 커서로 조회한 페이지인지 여부. 이 경우 {@code slice.hasNext()} 는 더 최신 항목이 있는지를 뜻한다.
+     * @param cursorGiven 커서를 가지고 조회했는지 여부. 첫 페이지에는 이전 버튼이 없다.
+     */
+    public <T> CursorBar getCursorBar(Slice<T> slice, Function<T, String> cursorOf, boolean backward, boolean cursorGiven) {
+        if (!slice.hasContent()) {
+            return new CursorBar(null, null);
+        }
+
+        boolean hasPrevious = backward ? slice.hasNext() : cursorGiven;
+        boolean hasNext = backward || slice.hasNext();
+        List<T> content = slice.getContent();
+
+        return new CursorBar(
+                hasPrevious ? cursorOf.apply(content.get(0)) : null,
+                hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null
+        );
+    }
+
+    /**
+     * 전체 건수 표시. 정확한 건수를 모르는 {@link ApproximatePage} 는 "31+" 처럼 하한 뒤에 + 를 붙인다.
+     */
+    public String getTotalLabel(Page<?> page) {
+        boolean exact = !(page instanceof ApproximatePage<?> approximatePage) || approximatePage.isExactTotal();
+
+        return String.format(exact ? "%,d" : "%,d+", page.getTotalElements());
+    }
+
     public int currentBarLength() {
         return BAR_LENGTH;
     }
 
+
+    public record CursorBar(String previousCursor, String nextCursor) {}
+
 }
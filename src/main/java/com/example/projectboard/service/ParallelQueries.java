@@ -0,0 +1,165 @@
+package com.example.projectboard.service;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 의존하지 않는 조회를 동시에 실행하고 모두 끝날 때까지 기다리는 도우미. 페이지 지연이 조회 시간의 합이 아니라 가장 느린 조회 시간이 된다.
+ * 각 조회는 별도 스레드에서 각자의 읽기 전용 트랜잭션(별도 커넥션)으로 돈다. 하나라도 실패하거나 제한 시간을 넘기면 나머지를 취소한다.
+ * 동시에 도는 조회가 한도에 차 있으면 호출한 스레드에서 바로 실행해, 부하가 높을 때는 순차 실행으로 물러난다.
+ * 취소된 조회도 실제로 끝날 때까지 한도를 차지하므로, 인터럽트에 반응하지 않는 JDBC 호출이 남아 있어도 한도를 넘지 않는다.
+ * 호출하는 쪽은 트랜잭션을 열지 않아야 커넥션을 쥔 채 기다리지 않는다.
+ *
+ * <pre>{@code
+ * try (ParallelQueries.Scope scope = parallelQueries.open()) {
+ *     Supplier<List<Foo>> content = scope.fork(() -> repository.findContent(...));
+ *     Supplier<Long> count = scope.fork(() -> repository.count(...));
+ *     scope.join();
+ *     return new PageImpl<>(content.get(), pageable, count.get());
+ * }
+ * }</pre>
+ */
+public class ParallelQueries {
+
+    private final TransactionOperations readOnlyTransaction;
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final ExecutorService executor;
+
+    public ParallelQueries(TransactionOperations readOnlyTransaction, int maxConcurrency, Duration timeout) {
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.permits = new Semaphore(maxConcurrency);
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "parallel-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }); // 스레드 수는 permits 가 제한한다
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+
+    /**
+     * 함께 실행할 조회의 범위. {@link #fork} 로 조회를 시작하고 {@link #join} 으로 모두 기다린다. 닫을 때 끝나지 않은 조회는 취소한다.
+     */
+    public class Scope implements AutoCloseable {
+
+        private final List<Future<?>> futures = new ArrayList<>();
+        private final BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+        private boolean joined;
+
+        public <T> Supplier<T> fork(Supplier<T> query) {
+            if (!permits.tryAcquire()) {
+                T result = readOnlyTransaction.execute(status -> query.get());
+                return () -> result;
+            }
+
+            AtomicBoolean permitClaimed = new AtomicBoolean(); // 조회를 시작한 쪽과 시작 전에 취소한 쪽 중 하나만 허가를 돌려준다
+            FutureTask<T> task = new FutureTask<>(() -> {
+                if (!permitClaimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return readOnlyTransaction.execute(status -> query.get());
+                } finally {
+                    permits.release(); // 취소돼도 JDBC 호출이 실제로 끝난 뒤에 돌려준다
+                }
+            }) {
+                @Override
+                protected void done() { // 정상 종료, 실패, 취소 모두 한 번씩 불린다
+                    if (isCancelled() && permitClaimed.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                    completed.add(this);
+                }
+            };
+            futures.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+                throw e;
+            }
+
+            return () -> result(task);
+        }
+
+        /**
+         * 시작한 조회가 모두 끝날 때까지 기다린다. 먼저 실패한 조회의 예외를 그대로 던지고, 시간을 넘기면 {@link QueryTimeoutException} 을 던진다.
+         */
+        public void join() {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    Future<?> done = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        throw new QueryTimeoutException("동시 조회가 제한 시간을 넘겼습니다 - timeout: " + timeout);
+                    }
+                    done.get();
+                }
+                joined = true;
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("동시 조회를 기다리다 중단되었습니다", e);
+            } finally {
+                if (!joined) {
+                    cancelAll();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+
+        private <T> T result(Future<T> future) {
+            if (!joined) {
+                throw new IllegalStateException("join() 전에는 결과를 읽을 수 없습니다");
+            }
+
+            try {
+                return future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e); // join() 이 성공했으므로 일어나지 않는다
+            }
+        }
+
+        private void cancelAll() {
+            futures.stream()
+                    .filter(future -> !future.isDone())
+                    .forEach(future -> future.cancel(true));
+        }
+
+        private RuntimeException rethrow(Throwable cause) {
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException(cause);
+        }
+
+    }
+
+}
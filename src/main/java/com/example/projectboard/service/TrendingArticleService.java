@@ -0,0 +1,212 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.TrendingConfig.TrendingProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleActivity;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleRankDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.example.projectboard.service.event.ArticleViewEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기글. 조회와 댓글에 시간이 지날수록 지수적으로 줄어드는 점수를 매기고, 점수 순서를 메모리의 정렬된 집합으로 유지한다.
+ * 점수는 기준 시각 이후의 활동일수록 크게 쌓는 방식(forward decay)으로 더하므로 시간이 흘러도 게시글 간 순서가 바뀌지 않는다.
+ * 그래서 활동이 생긴 게시글의 자리만 고치면 되고, 목록은 집합 앞쪽 K 개만 읽으면 된다. 게시글 테이블을 점수로 정렬하지 않는다.
+ */
+@Slf4j
+@Service
+public class TrendingArticleService {
+
+    private static final double MAX_EXPONENT = 300.0; // 가중치가 double 범위를 넘기 전에 기준 시각을 옮긴다
+    private static final Comparator<Score> RANK_ORDER = Comparator.comparingDouble(Score::weight).reversed()
+            .thenComparing(Score::articleId, Comparator.reverseOrder());
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final TrendingProperties properties;
+    private final double decayPerMilli;
+    private final Map<Long, Score> scores = new HashMap<>();
+    private final NavigableSet<Score> ranking = new TreeSet<>(RANK_ORDER);
+
+    private LocalDateTime landmark = LocalDateTime.now();
+    private volatile List<ArticleRankDto> trending;
+
+    public TrendingArticleService(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            TrendingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.properties = properties;
+        this.decayPerMilli = Math.log(2) / properties.getHalfLife().toMillis();
+        Gauge.builder("board.trending.tracked", this, TrendingArticleService::trackedCount)
+                .description("점수를 들고 있는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 점수 순 상위 게시글. 주기적으로 다시 계산해 둔 목록을 돌려준다.
+     */
+    public List<ArticleRankDto> getTrendingArticles() {
+        List<ArticleRankDto> current = trending;
+        if (current == null) {
+            refresh();
+            current = trending;
+        }
+
+        return current;
+    }
+
+    /**
+     * 게시글에 가중치 {@code weight} 만큼의 활동이 {@code occurredAt} 에 있었음을 반영한다.
+     */
+    public synchronized void addActivity(Long articleId, double weight, LocalDateTime occurredAt) {
+        if (exponentAt(occurredAt) > MAX_EXPONENT) {
+            rebase(occurredAt);
+        }
+
+        Score previous = scores.get(articleId);
+        double added = weight * Math.exp(exponentAt(occurredAt));
+        Score updated = new Score(articleId, previous == null ? added : previous.weight() + added);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        scores.put(articleId, updated);
+        ranking.add(updated);
+
+        if (ranking.size() > properties.getMaxTracked()) {
+            scores.remove(ranking.pollLast().articleId());
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.trending.refresh-interval}",
+            fixedDelayString = "${board.trending.refresh-interval}"
+    )
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Score> top;
+        double decay;
+        synchronized (this) {
+            if (Duration.between(landmark, now).compareTo(properties.getHalfLife()) > 0) {
+                rebase(now);
+            }
+            top = ranking.stream().limit(properties.getSize()).toList();
+            decay = Math.exp(-exponentAt(now));
+        }
+
+        if (top.isEmpty()) {
+            trending = List.of();
+            return;
+        }
+
+        Map<Long, Article> articles = articleRepository.findAllWithUserAccountByIdIn(top.stream().map(Score::articleId).toList()).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        trending = top.stream()
+                .filter(score -> articles.containsKey(score.articleId())) // 그 사이 삭제된 게시글
+                .map(score -> ArticleRankDto.of(ArticleDto.from(articles.get(score.articleId())), Math.round(score.weight() * decay)))
+                .toList();
+    }
+
+    /**
+     * 조회수는 시각을 남기지 않으므로 기동 시에는 최근 댓글만으로 점수를 복원한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<ArticleActivity> activities = articleCommentRepository.findActivitiesSince(LocalDateTime.now().minus(properties.getWarmupWindow()));
+        synchronized (this) {
+            activities.forEach(activity -> addActivity(activity.articleId(), properties.getCommentWeight(), activity.occurredAt()));
+        }
+        refresh();
+
+        log.info("인기글 점수 복원 완료 - 댓글 수: {}, 게시글 수: {}", activities.size(), trackedCount());
+    }
+
+    @EventListener
+    public void onArticleViewEvent(ArticleViewEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (this) {
+            event.viewCounts().forEach((articleId, count) -> addActivity(articleId, properties.getViewWeight() * count, now));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.type() == ArticleCommentEvent.Type.CREATED) {
+            addActivity(event.articleId(), properties.getCommentWeight(), LocalDateTime.now());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() != ArticleEvent.Type.DELETED) {
+            return;
+        }
+
+        synchronized (this) {
+            Score removed = scores.remove(event.articleId());
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+        }
+        List<ArticleRankDto> current = trending;
+        if (current != null) {
+            trending = current.stream()
+                    .filter(rank -> !rank.article().id().equals(event.articleId()))
+                    .toList();
+        }
+    }
+
+    public synchronized int trackedCount() {
+        return scores.size();
+    }
+
+
+    private double exponentAt(LocalDateTime time) {
+        return decayPerMilli * Duration.between(landmark, time).toMillis();
+    }
+
+    /**
+     * 기준 시각을 {@code newLandmark} 로 옮긴다. 모든 점수에 같은 값을 곱하므로 순서는 그대로이고,
+     * 옮긴 뒤의 가중치가 곧 그 시각의 점수이므로 너무 작아진 게시글은 이때 버린다.
+     */
+    private void rebase(LocalDateTime newLandmark) {
+        double factor = Math.exp(-exponentAt(newLandmark));
+        List<Score> previous = List.copyOf(ranking);
+
+        scores.clear();
+        ranking.clear();
+        for (Score score : previous) {
+            double weight = score.weight() * factor;
+            if (weight >= properties.getMinScore()) {
+                Score rebased = new Score(score.articleId(), weight);
+                scores.put(rebased.articleId(), rebased);
+                ranking.add(rebased);
+            }
+        }
+        landmark = newLandmark;
+    }
+
+
+    private record Score(Long articleId, double weight) {}
+
+}
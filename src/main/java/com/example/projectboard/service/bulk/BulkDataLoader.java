@@ -0,0 +1,37 @@
+package com.example.projectboard.service.bulk;
+
+import com.example.projectboard.config.BulkLoadConfig.BulkLoadProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code bulk-load} 프로필로 띄우면 기동 시 부하 테스트용 데이터를 넣는다.
+ * 예: {@code ./gradlew bootRun --args='--spring.profiles.active=bulk-load --board.bulk-load.article-count=1000000'}
+ * 검색 색인, 게시글 수 같은 기동 시 적재 작업은 {@code ApplicationReadyEvent} 에서 돌므로 넣은 데이터를 그대로 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Profile("bulk-load")
+@Component
+public class BulkDataLoader implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkLoadProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long articleCount = jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        if (articleCount != null && articleCount > 0) {
+            log.warn("게시글 테이블이 비어있지 않아 시드 데이터를 넣지 않습니다 - 게시글 수: {}", articleCount);
+            return;
+        }
+
+        new SyntheticDataGenerator(jdbcTemplate, properties).generate();
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.example.projectboard.service.bulk;
+
+import com.example.projectboard.config.BulkLoadConfig.BulkLoadProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 부하 테스트용 유저/게시글/해시태그/댓글을 만들어 JDBC 배치로 넣는다. 같은 시드면 항상 같은 데이터를 만든다.
+ * 글쓴이, 댓글이 달리는 게시글, 댓글 작성자, 해시태그는 모두 지프 분포로 골라 실제 서비스처럼 소수에 활동이 몰린다.
+ * 게시글은 ID 가 작을수록 최신이고, 댓글도 최신 게시글에 더 많이 달린다.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    public static final List<String> TITLE_WORDS = List.of(
+            "spring", "java", "jpa", "querydsl", "thymeleaf", "security", "gradle", "docker",
+            "스프링", "자바", "게시판", "성능", "검색", "댓글", "해시태그", "페이징"
+    );
+    private static final int MAX_ZIPF_RANKS = 1_000_000; // 이보다 게시글이 많으면 구간 단위로 뽑는다
+    private static final int MAX_HASHTAGS_PER_ARTICLE = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkLoadProperties properties;
+    private final Random random;
+    private final ZipfDistribution userDistribution;
+    private final ZipfDistribution hashtagDistribution;
+    private final ZipfDistribution articleDistribution;
+    private final int articleBucketSize;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, BulkLoadProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.random = new Random(properties.getSeed());
+        this.userDistribution = new ZipfDistribution(properties.getUserCount(), properties.getZipfExponent());
+        this.hashtagDistribution = new ZipfDistribution(properties.getHashtagCount(), properties.getZipfExponent());
+        int articleRanks = Math.min(properties.getArticleCount(), MAX_ZIPF_RANKS);
+        this.articleDistribution = new ZipfDistribution(articleRanks, properties.getZipfExponent());
+        this.articleBucketSize = (properties.getArticleCount() + articleRanks - 1) / articleRanks;
+    }
+
+    public Result generate() {
+        long startedAt = System.currentTimeMillis();
+
+        insertUserAccounts();
+        insertHashtags();
+        insertArticles();
+        insertArticleComments();
+        restartIdGenerators();
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("시드 데이터 생성 완료 - 유저: {}, 게시글: {}, 해시태그: {}, 댓글: {}, 소요: {}ms",
+                properties.getUserCount(), properties.getArticleCount(), properties.getHashtagCount(), properties.getCommentCount(), elapsed);
+
+        return new Result(properties.getArticleCount(), properties.getCommentCount(), 1L);
+    }
+
+    /**
+     * @param hottestArticleId 댓글이 가장 많이 달릴 것으로 기대되는 게시글 ID
+     */
+    public record Result(int articleCount, long commentCount, long hottestArticleId) {}
+
+
+    private void insertUserAccounts() {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        BatchInserter inserter = new BatchInserter(
+                "insert into user_account (user_id, user_password, nickname, email, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                "user_account"
+        );
+        for (int rank = 1; rank <= properties.getUserCount(); rank++) {
+            String userId = userId(rank);
+            inserter.add(userId, "{noop}asdf1234", "User" + rank, userId + "@mail.com", createdAt, userId, createdAt, userId);
+        }
+        inserter.flush();
+    }
+
+    private void insertHashtags() {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        BatchInserter inserter = new BatchInserter(
+                "insert into hashtag (id, hashtag_name, article_count, created_at, created_by, modified_at, modified_by) values (?, ?, 0, ?, ?, ?, ?)",
+                "hashtag"
+        );
+        for (int hashtagId = 1; hashtagId <= properties.getHashtagCount(); hashtagId++) {
+            inserter.add(hashtagId, hashtagName(hashtagId), createdAt, "bulk-load", createdAt, "bulk-load");
+        }
+        inserter.flush();
+    }
+
+    private void insertArticles() {
+        long[] hashtagArticleCounts = new long[properties.getHashtagCount() + 1];
+        BatchInserter articles = new BatchInserter(
+                "insert into article (id, user_id, title, content, hashtag, created_by, modified_by, created_at, modified_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "article"
+        );
+        BatchInserter articleHashtags = new BatchInserter("insert into article_hashtag (article_id, hashtag_id) values (?, ?)", "article_hashtag", articles);
+
+        for (long articleId = 1; articleId <= properties.getArticleCount(); articleId++) {
+            Timestamp createdAt = Timestamp.valueOf(createdAtOf(articleId));
+            String userId = userId(userDistribution.sample(random));
+            Set<Integer> hashtagIds = new LinkedHashSet<>();
+            int hashtagSize = random.nextInt(MAX_HASHTAGS_PER_ARTICLE + 1);
+            for (int i = 0; i < hashtagSize; i++) {
+                hashtagIds.add(hashtagDistribution.sample(random));
+            }
+            String hashtag = hashtagIds.isEmpty() ? null : String.join(" ", hashtagIds.stream().map(id -> "#" + hashtagName(id)).toList());
+
+            articles.add(articleId, userId, title(), content(), hashtag, userId, userId, createdAt, createdAt);
+            for (int hashtagId : hashtagIds) {
+                hashtagArticleCounts[hashtagId]++;
+                articleHashtags.add(articleId, hashtagId);
+            }
+        }
+        articles.flush();
+        articleHashtags.flush();
+
+        BatchInserter hashtagCounts = new BatchInserter("update hashtag set article_count = ? where id = ?", "hashtag");
+        for (int hashtagId = 1; hashtagId <= properties.getHashtagCount(); hashtagId++) {
+            hashtagCounts.add(hashtagArticleCounts[hashtagId], hashtagId);
+        }
+        hashtagCounts.flush();
+    }
+
+    private void insertArticleComments() {
+        int[] articleCommentCounts = new int[properties.getArticleCount() + 1];
+        BatchInserter inserter = new BatchInserter(
+                "insert into article_comment (id, article_id, user_id, content, created_at, modified_at, created_by, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                "article_comment"
+        );
+        for (long articleCommentId = 1; articleCommentId <= properties.getCommentCount(); articleCommentId++) {
+            long articleId = pickArticleId();
+            String userId = userId(userDistribution.sample(random));
+            Timestamp createdAt = Timestamp.valueOf(createdAtOf(articleId).plusSeconds(random.nextInt(86_400)));
+            inserter.add(articleCommentId, articleId, userId, "댓글 " + articleCommentId, createdAt, createdAt, userId, userId);
+            articleCommentCounts[(int) articleId]++;
+        }
+        inserter.flush();
+
+        BatchInserter commentCounts = new BatchInserter("update article set comment_count = ? where id = ?", "article");
+        for (int articleId = 1; articleId <= properties.getArticleCount(); articleId++) {
+            if (articleCommentCounts[articleId] > 0) {
+                commentCounts.add(articleCommentCounts[articleId], articleId);
+            }
+        }
+        commentCounts.flush();
+    }
+
+    /**
+     * ID 를 직접 넣었으므로, 이후 애플리케이션이 만드는 ID 와 겹치지 않게 ID 생성기를 넣은 ID 뒤로 옮긴다.
+     * pooled 최적화는 시퀀스 값을 할당 구간의 끝으로 보므로 할당 크기만큼 더 띄운다.
+     * 시퀀스가 없는 MySQL 은 Hibernate 가 만든 시퀀스 테이블을 고치고, 해시태그의 AUTO_INCREMENT 는 직접 넣은 ID 를 따라 자동으로 올라간다.
+     */
+    private void restartIdGenerators() {
+        long nextArticleId = properties.getArticleCount() + Article.ID_ALLOCATION_SIZE + 1L;
+        long nextArticleCommentId = properties.getCommentCount() + ArticleComment.ID_ALLOCATION_SIZE + 1L;
+
+        String databaseName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(databaseName)) {
+            jdbcTemplate.execute("alter sequence article_seq restart with " + Math.max(nextArticleId, 1000));
+            jdbcTemplate.execute("alter sequence article_comment_seq restart with " + Math.max(nextArticleCommentId, 1000));
+            jdbcTemplate.execute("alter table hashtag alter column id restart with " + (properties.getHashtagCount() + 1));
+        } else {
+            jdbcTemplate.update("update article_seq set next_val = greatest(next_val, ?)", nextArticleId);
+            jdbcTemplate.update("update article_comment_seq set next_val = greatest(next_val, ?)", nextArticleCommentId);
+        }
+    }
+
+    private long pickArticleId() {
+        long bucket = articleDistribution.sample(random);
+        long articleId = (bucket - 1) * articleBucketSize + random.nextInt(articleBucketSize) + 1;
+
+        return Math.min(articleId, properties.getArticleCount());
+    }
+
+    private LocalDateTime createdAtOf(long articleId) {
+        return now.minusSeconds(articleId * 30);
+    }
+
+    private String userId(int rank) {
+        return "user" + rank;
+    }
+
+    private String hashtagName(int hashtagId) {
+        return "tag" + hashtagId;
+    }
+
+    private String title() {
+        return TITLE_WORDS.get(random.nextInt(TITLE_WORDS.size())) + " " + TITLE_WORDS.get(random.nextInt(TITLE_WORDS.size())) + " " + random.nextInt(1_000);
+    }
+
+    private String content() {
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 200) {
+            content.append(TITLE_WORDS.get(random.nextInt(TITLE_WORDS.size()))).append(' ');
+        }
+
+        return content.toString().trim();
+    }
+
+
+    /**
+     * 배치 크기만큼 모아서 한 번에 보낸다. MySQL 은 {@code rewriteBatchedStatements=true} 면 다중 행 insert 로 바뀐다.
+     */
+    private class BatchInserter {
+
+        private final String sql;
+        private final String tableName;
+        private final BatchInserter referenced; // 이 테이블이 참조하는 행을 모으는 inserter. 먼저 내보낸다
+        private final List<Object[]> rows = new ArrayList<>();
+        private long total;
+        private long lastLoggedAt = System.currentTimeMillis();
+
+        private BatchInserter(String sql, String tableName) {
+            this(sql, tableName, null);
+        }
+
+        private BatchInserter(String sql, String tableName, BatchInserter referenced) {
+            this.sql = sql;
+            this.tableName = tableName;
+            this.referenced = referenced;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            if (referenced != null) {
+                referenced.flush();
+            }
+
+            jdbcTemplate.batchUpdate(sql, rows);
+            total += rows.size();
+            rows.clear();
+            if (System.currentTimeMillis() - lastLoggedAt > 10_000) {
+                lastLoggedAt = System.currentTimeMillis();
+                log.info("시드 데이터 적재 중 - {}: {}건", tableName, total);
+            }
+        }
+
+    }
+
+}
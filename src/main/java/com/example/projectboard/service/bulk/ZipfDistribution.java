@@ -0,0 +1,38 @@
+package com.example.projectboard.service.bulk;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 1 ~ size 사이의 순위를 지프 분포로 뽑는다. 1위가 가장 자주 나온다.
+ */
+public class ZipfDistribution {
+
+    private final double[] cumulativeWeights;
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다 - " + size);
+        }
+
+        cumulativeWeights = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulativeWeights[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulativeWeights[i] /= sum;
+        }
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        return Math.min(index, cumulativeWeights.length - 1) + 1;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.config.CacheConfig.ArticleDetailCacheProperties;
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ArticleService#getArticleWithComments(Long, Pageable)} 앞단의 2단 캐시.
+ * 1단은 게시글 ID -> (댓글 페이지 -> 게시글 상세) 로컬 캐시로 크기/시간 제한이 있고, 2단은 {@link ArticleDetailCacheStore} 빈이 있을 때만 쓴다.
+ * 게시글 수정/삭제, 댓글 작성/수정/삭제가 커밋되면 해당 게시글 항목만 지운다.
+ */
+@Slf4j
+@Component
+public class ArticleDetailCache {
+
+    private final ArticleService articleService;
+    private final ArticleDetailCacheStore secondTier;
+    private final ArticleDetailCacheProperties properties;
+    private final Cache<Long, Map<String, ArticleWithCommentsDto>> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter secondTierHits;
+
+    public ArticleDetailCache(
+            ArticleService articleService,
+            ObjectProvider<ArticleDetailCacheStore> secondTier,
+            ArticleDetailCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleService = articleService;
+        this.secondTier = secondTier.getIfAvailable();
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .removalListener((Long articleId, Map<String, ArticleWithCommentsDto> pages, RemovalCause cause) ->
+                        meterRegistry.counter("board.article.detail.cache.evictions", "cause", cause.name().toLowerCase()).increment())
+                .build();
+        this.hits = Counter.builder("board.article.detail.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("board.article.detail.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.secondTierHits = Counter.builder("board.article.detail.cache.requests").tag("result", "second-tier-hit").register(meterRegistry);
+        Gauge.builder("board.article.detail.cache.size", cache, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    public ArticleWithCommentsDto getArticleWithComments(Long articleId, Pageable commentPageable) {
+        if (!properties.isEnabled()) {
+            return articleService.getArticleWithComments(articleId, commentPageable);
+        }
+
+        // 조회 도중 무효화되면 이 pages 는 캐시에서 떨어져 나가므로, 오래된 값을 넣어도 다시 보이지 않는다
+        Map<String, ArticleWithCommentsDto> pages = cache.get(articleId, id -> new ConcurrentHashMap<>());
+        String pageKey = pageKey(commentPageable);
+        ArticleWithCommentsDto cached = pages.get(pageKey);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        ArticleWithCommentsDto articleWithComments = secondTier == null ? null : secondTier.get(articleId, pageKey).orElse(null);
+        if (articleWithComments != null) {
+            secondTierHits.increment();
+        } else {
+            misses.increment();
+            articleWithComments = articleService.getArticleWithComments(articleId, commentPageable);
+            putSecondTier(articleId, pageKey, articleWithComments, pages);
+        }
+        if (pages.size() < properties.getMaxPagesPerArticle()) {
+            pages.put(pageKey, articleWithComments);
+        }
+
+        return articleWithComments;
+    }
+
+    public void evict(Long articleId) {
+        cache.invalidate(articleId);
+        if (secondTier != null) {
+            secondTier.evict(articleId);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() != ArticleEvent.Type.CREATED) {
+            evict(event.articleId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        evict(event.articleId());
+    }
+
+
+    private void putSecondTier(Long articleId, String pageKey, ArticleWithCommentsDto articleWithComments, Map<String, ArticleWithCommentsDto> pages) {
+        if (secondTier == null) {
+            return;
+        }
+
+        secondTier.put(articleId, pageKey, articleWithComments);
+        if (cache.getIfPresent(articleId) != pages) {
+            secondTier.evict(articleId); // 조회 도중 무효화됐다면 방금 넣은 값이 오래된 값일 수 있다
+        }
+    }
+
+    private String pageKey(Pageable commentPageable) {
+        return commentPageable.getPageNumber() + ":" + commentPageable.getPageSize() + ":" + commentPageable.getSort();
+    }
+
+}
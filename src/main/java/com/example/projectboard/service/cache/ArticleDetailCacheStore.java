@@ -0,0 +1,20 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+
+import java.util.Optional;
+
+/**
+ * 게시글 상세 캐시의 2차 저장소. 여러 인스턴스가 함께 쓰는 원격 캐시(Redis 등)를 붙일 때 구현한다.
+ * 빈이 없으면 로컬 캐시만 쓴다.
+ */
+public interface ArticleDetailCacheStore {
+
+    Optional<ArticleWithCommentsDto> get(Long articleId, String pageKey);
+
+    void put(Long articleId, String pageKey, ArticleWithCommentsDto articleWithComments);
+
+    /** 게시글의 모든 댓글 페이지를 지운다. */
+    void evict(Long articleId);
+
+}
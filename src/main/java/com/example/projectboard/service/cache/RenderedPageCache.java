@@ -0,0 +1,85 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.config.CacheConfig.RenderedPageCacheProperties;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비로그인 사용자에게 보여 준 게시글 목록의 렌더링 결과(HTML)를 버전이 붙은 키로 보관한다.
+ * 게시글이나 댓글 수가 바뀌면 키에 들어가는 버전만 올리므로, 이전 버전으로 렌더링된 페이지는 다시 조회되지 않고 크기/시간 제한으로 정리된다.
+ * 렌더링 도중 변경이 커밋돼도 렌더링 시작 시점의 버전으로 저장되므로 오래된 페이지가 새 버전으로 보이지 않는다.
+ */
+@Component
+public class RenderedPageCache {
+
+    private final RenderedPageCacheProperties properties;
+    private final Cache<String, RenderedPage> pages;
+    private final AtomicLong listVersion = new AtomicLong();
+    private final AtomicLong commentCountVersion = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public RenderedPageCache(RenderedPageCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .build();
+        this.hits = Counter.builder("board.rendered.page.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("board.rendered.page.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("board.rendered.page.cache.size", pages, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /** 목록 페이지 키. 게시글이 생기거나 바뀌거나 지워지거나, 댓글이 달리거나 지워져 댓글 수가 바뀌면 달라진다. */
+    public String listKey(String requestUri) {
+        return "list:" + listVersion.get() + ":" + commentCountVersion.get() + ":" + requestUri;
+    }
+
+    public Optional<RenderedPage> get(String key) {
+        RenderedPage page = pages.getIfPresent(key);
+        if (page == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return Optional.ofNullable(page);
+    }
+
+    public void put(String key, RenderedPage page) {
+        pages.put(key, page);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        listVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.type() != ArticleCommentEvent.Type.UPDATED) {
+            commentCountVersion.incrementAndGet();
+        }
+    }
+
+
+    /**
+     * @param etag 컨트롤러가 붙인 ETag. 캐시에서 꺼내 줄 때도 조건부 요청에 304 로 답할 수 있게 함께 둔다
+     */
+    public record RenderedPage(String contentType, byte[] body, String etag, String lastModified) {}
+
+}
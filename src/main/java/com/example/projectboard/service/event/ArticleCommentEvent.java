@@ -0,0 +1,17 @@
+package com.example.projectboard.service.event;
+
+/**
+ * 댓글 변경 이벤트. 댓글이 달린 게시글 기준으로 캐시 등을 갱신할 수 있게 게시글 ID 를 담는다.
+ */
+public record ArticleCommentEvent(Type type, Long articleId) {
+
+    public static ArticleCommentEvent of(Type type, Long articleId) {
+        return new ArticleCommentEvent(type, articleId);
+    }
+
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+}
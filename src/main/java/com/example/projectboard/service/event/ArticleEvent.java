@@ -0,0 +1,48 @@
+package com.example.projectboard.service.event;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleSearchDocument;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트. 트랜잭션 커밋 이후 색인, 캐시 등 파생 데이터를 갱신하는 데 쓴다.
+ */
+public record ArticleEvent(
+        Type type,
+        Long articleId,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt
+) {
+
+    public static ArticleEvent of(Type type, Article article) {
+        return new ArticleEvent(
+                type,
+                article.getId(),
+                article.getTitle(),
+                article.getContent(),
+                article.getHashtag(),
+                article.getCreatedAt()
+        );
+    }
+
+    public static ArticleEvent ofUpdated(ArticleSearchDocument document, String hashtag) {
+        return new ArticleEvent(Type.UPDATED, document.id(), document.title(), document.content(), hashtag, document.createdAt());
+    }
+
+    public static ArticleEvent ofDeleted(Long articleId) {
+        return new ArticleEvent(Type.DELETED, articleId, null, null, null, null);
+    }
+
+    public ArticleSearchDocument toSearchDocument() {
+        return ArticleSearchDocument.of(articleId, title, content, createdAt);
+    }
+
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.example.projectboard.service.event;
+
+import java.util.Map;
+
+/**
+ * DB 에 반영한 조회수 증가분. 게시글 ID -> 늘어난 조회수.
+ */
+public record ArticleViewEvent(Map<Long, Long> viewCounts) {
+
+    public static ArticleViewEvent of(Map<Long, Long> viewCounts) {
+        return new ArticleViewEvent(Map.copyOf(viewCounts));
+    }
+
+}
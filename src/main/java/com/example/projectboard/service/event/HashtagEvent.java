@@ -0,0 +1,14 @@
+package com.example.projectboard.service.event;
+
+import java.util.Set;
+
+/**
+ * 해시태그별 게시글 수 변경 이벤트. 트랜잭션 커밋 이후 해시태그 카탈로그에 반영한다.
+ */
+public record HashtagEvent(Set<String> hashtagNames, long delta) {
+
+    public static HashtagEvent of(Set<String> hashtagNames, long delta) {
+        return new HashtagEvent(hashtagNames, delta);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.projectboard.service.event;
+
+import com.example.projectboard.domain.UserAccount;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 유저 계정은 여러 곳에서 JPA 로 바뀔 수 있으므로, 서비스 대신 엔티티 리스너가 {@link UserAccountEvent} 를 발행한다.
+ * Hibernate 가 스프링 빈 컨테이너로 만들기 때문에 생성자 주입을 받을 수 있다.
+ */
+@RequiredArgsConstructor
+public class UserAccountEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(UserAccount userAccount) {
+        eventPublisher.publishEvent(UserAccountEvent.of(UserAccountEvent.Type.SAVED, userAccount));
+    }
+
+    @PostRemove
+    public void onRemoved(UserAccount userAccount) {
+        eventPublisher.publishEvent(UserAccountEvent.of(UserAccountEvent.Type.DELETED, userAccount));
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.projectboard.service.event;
+
+import com.example.projectboard.domain.UserAccount;
+
+/**
+ * 유저 계정 변경 이벤트. 유저 ID/닉네임 검색 색인 등을 갱신하는 데 쓴다.
+ */
+public record UserAccountEvent(Type type, String userId, String nickname) {
+
+    public static UserAccountEvent of(Type type, UserAccount userAccount) {
+        return new UserAccountEvent(type, userAccount.getUserId(), userAccount.getNickname());
+    }
+
+
+    public enum Type {
+        SAVED, DELETED
+    }
+
+}
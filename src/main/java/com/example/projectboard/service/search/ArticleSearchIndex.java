@@ -0,0 +1,38 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * 제목/본문 검색을 DB 의 {@code LIKE '%keyword%'} 스캔 대신 처리하는 게시글 색인.
+ * 다른 구현(외부 검색 엔진 등)으로 바꾸려면 이 타입의 빈을 직접 등록하면 된다.
+ */
+public interface ArticleSearchIndex {
+
+    boolean supports(SearchType searchType);
+
+    /** 이 검색어를 색인으로 찾을 수 있는지 여부. 아니면 DB 검색으로 처리한다. */
+    boolean supports(SearchType searchType, String keyword);
+
+    /** 최초 적재가 끝나 검색에 쓸 수 있는 상태인지 여부. 준비 전에는 DB 검색으로 처리한다. */
+    boolean isReady();
+
+    void markReady();
+
+    /** 게시글을 새로 색인하거나, 이미 있으면 다시 색인한다. */
+    void index(ArticleSearchDocument document);
+
+    /** 최초 적재용. 적재 도중 변경/삭제된 게시글은 건너뛰어 최신 상태를 덮어쓰지 않는다. */
+    void load(ArticleSearchDocument document);
+
+    void remove(Long articleId);
+
+    /** 검색어의 모든 토큰을 포함하는 게시글 ID 를 작성일시 순으로 반환한다. */
+    List<Long> search(SearchType searchType, String keyword, Sort.Direction direction);
+
+    int size();
+
+}
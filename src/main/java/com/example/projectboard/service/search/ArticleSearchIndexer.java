@@ -0,0 +1,54 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.config.SearchConfig;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.index-enabled", havingValue = "true")
+@Component
+public class ArticleSearchIndexer {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final SearchConfig.SearchProperties searchProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long startedAt = System.currentTimeMillis();
+        int chunkSize = searchProperties.getLoadChunkSize();
+        long lastArticleId = 0L;
+        List<ArticleSearchDocument> chunk;
+
+        do {
+            chunk = articleRepository.findSearchDocuments(lastArticleId, chunkSize);
+            chunk.forEach(articleSearchIndex::load);
+            if (!chunk.isEmpty()) {
+                lastArticleId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == chunkSize);
+
+        articleSearchIndex.markReady();
+        log.info("게시글 검색 색인 적재 완료 - 게시글 수: {}, 소요 시간: {}ms", articleSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> articleSearchIndex.index(event.toSearchDocument());
+            case DELETED -> articleSearchIndex.remove(event.articleId());
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.example.projectboard.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 색인용 토크나이저.
+ * 문자/숫자가 아닌 문자를 경계로 단어를 나누고, 한글 구간은 띄어쓰기 없이 붙여 쓰는 경우가 많아 글자(1-gram)와 2-gram 으로 쪼갠다.
+ * 한글 검색어는 2-gram(한 글자면 그 글자)으로 나눠 색인과 그대로 맞춰 보므로 부분 문자열 검색이 된다.
+ * 영문/숫자 검색어는 단어 앞부분으로 일치시킨다({@link #isPrefixTerm}). 단어 중간만 일치하는 경우("ring" 으로 "spring")는 DB 의 LIKE 검색과 달리 찾지 않는다.
+ */
+public class ArticleTokenizer {
+
+    private static final int HANGUL_GRAM_SIZE = 2;
+    private static final int MIN_PREFIX_TERM_LENGTH = 3;
+
+
+    /** 색인할 문서의 토큰 */
+    public Set<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /** 검색어의 토큰. 한글은 한 글자 토큰을 따로 만들지 않는다. */
+    public Set<String> tokenizeQuery(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 색인으로 찾아도 되는 검색어인지 여부. 띄어쓰기나 기호가 섞인 검색어는 DB 의 LIKE 처럼 붙은 문자열로 찾아야 하고,
+     * 토큰이 없거나 짧은 영문/숫자 검색어는 너무 많은 토큰의 포스팅을 합치게 되므로 DB 검색으로 처리한다.
+     */
+    public boolean isIndexableQuery(String text) {
+        if (text == null || text.isBlank() || !text.strip().codePoints().allMatch(Character::isLetterOrDigit)) {
+            return false;
+        }
+
+        Set<String> terms = tokenizeQuery(text);
+        return !terms.isEmpty() && terms.stream()
+                .filter(this::isPrefixTerm)
+                .allMatch(term -> term.codePointCount(0, term.length()) >= MIN_PREFIX_TERM_LENGTH);
+    }
+
+    /** 색인의 같은 토큰이 아니라 그 토큰으로 시작하는 토큰들과 맞춰 볼 검색어 토큰인지 여부 */
+    public boolean isPrefixTerm(String term) {
+        return !term.isEmpty() && !isHangul(term.codePointAt(0));
+    }
+
+
+    private Set<String> tokenize(String text, boolean query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, hangulRun, query, terms);
+                continue;
+            }
+
+            boolean hangul = isHangul(codePoint);
+            if (!run.isEmpty() && hangul != hangulRun) {
+                flush(run, hangulRun, query, terms);
+            }
+            hangulRun = hangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, hangulRun, query, terms);
+
+        return terms;
+    }
+
+    private void flush(StringBuilder run, boolean hangulRun, boolean query, Set<String> terms) {
+        if (run.isEmpty()) {
+            return;
+        }
+
+        String word = run.toString().toLowerCase(Locale.ROOT);
+        run.setLength(0);
+
+        if (!hangulRun) {
+            terms.add(word);
+            return;
+        }
+        if (!query) {
+            word.codePoints().forEach(codePoint -> terms.add(Character.toString(codePoint))); // 한 글자 검색어용
+        }
+        if (word.length() <= HANGUL_GRAM_SIZE) {
+            terms.add(word);
+            return;
+        }
+        for (int i = 0; i + HANGUL_GRAM_SIZE <= word.length(); i++) {
+            terms.add(word.substring(i, i + HANGUL_GRAM_SIZE));
+        }
+    }
+
+    private boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+
+}
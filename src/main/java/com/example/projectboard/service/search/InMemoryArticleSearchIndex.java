@@ -0,0 +1,187 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 역색인. 필드별 토큰 -> 게시글 ID 포스팅 리스트와, 갱신/삭제를 위한 게시글 ID -> 토큰 정방향 색인을 함께 가진다.
+ * 토큰은 정렬해 두어 영문/숫자 검색어는 그 검색어로 시작하는 토큰들의 포스팅을 합쳐 찾는다.
+ */
+public class InMemoryArticleSearchIndex implements ArticleSearchIndex {
+
+    private final ArticleTokenizer tokenizer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<SearchType, NavigableMap<String, Set<Long>>> postings = new EnumMap<>(SearchType.class);
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public InMemoryArticleSearchIndex(ArticleTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+        this.postings.put(SearchType.TITLE, new TreeMap<>());
+        this.postings.put(SearchType.CONTENT, new TreeMap<>());
+    }
+
+    @Override
+    public boolean supports(SearchType searchType) {
+        return postings.containsKey(searchType);
+    }
+
+    @Override
+    public boolean supports(SearchType searchType, String keyword) {
+        return supports(searchType) && tokenizer.isIndexableQuery(keyword);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(ArticleSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            addInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void load(ArticleSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (documents.containsKey(document.id()) || removedWhileLoading.contains(document.id())) {
+                return;
+            }
+            addInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+            if (!ready) {
+                removedWhileLoading.add(articleId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(SearchType searchType, String keyword, Sort.Direction direction) {
+        Set<String> terms = tokenizer.tokenizeQuery(keyword);
+        if (!supports(searchType) || terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Set<Long>> fieldPostings = postings.get(searchType);
+            List<Set<Long>> matchedPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Set<Long> articleIds = postingsOf(fieldPostings, term);
+                if (articleIds.isEmpty()) {
+                    return List.of();
+                }
+                matchedPostings.add(articleIds);
+            }
+            matchedPostings.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> result = new ArrayList<>(matchedPostings.get(0).size());
+            for (Long articleId : matchedPostings.get(0)) {
+                if (matchedPostings.stream().skip(1).allMatch(ids -> ids.contains(articleId))) {
+                    result.add(articleId);
+                }
+            }
+
+            Comparator<Long> order = Comparator
+                    .comparing((Long articleId) -> documents.get(articleId).createdAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(Comparator.naturalOrder());
+            result.sort(direction == Sort.Direction.DESC ? order.reversed() : order);
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private Set<Long> postingsOf(NavigableMap<String, Set<Long>> fieldPostings, String term) {
+        if (!tokenizer.isPrefixTerm(term)) {
+            return fieldPostings.getOrDefault(term, Set.of());
+        }
+
+        Collection<Set<Long>> matched = fieldPostings.subMap(term, true, term + Character.MAX_VALUE, false).values();
+        if (matched.size() == 1) {
+            return matched.iterator().next();
+        }
+        Set<Long> articleIds = new HashSet<>();
+        matched.forEach(articleIds::addAll);
+
+        return articleIds;
+    }
+
+    private void addInternal(ArticleSearchDocument document) {
+        Set<String> titleTerms = tokenizer.tokenize(document.title());
+        Set<String> contentTerms = tokenizer.tokenize(document.content());
+        titleTerms.forEach(term -> postings.get(SearchType.TITLE).computeIfAbsent(term, k -> new HashSet<>()).add(document.id()));
+        contentTerms.forEach(term -> postings.get(SearchType.CONTENT).computeIfAbsent(term, k -> new HashSet<>()).add(document.id()));
+        documents.put(document.id(), new IndexedDocument(document.createdAt(), titleTerms, contentTerms));
+    }
+
+    private void removeInternal(Long articleId) {
+        IndexedDocument previous = documents.remove(articleId);
+        if (previous == null) {
+            return;
+        }
+        removePostings(postings.get(SearchType.TITLE), previous.titleTerms(), articleId);
+        removePostings(postings.get(SearchType.CONTENT), previous.contentTerms(), articleId);
+    }
+
+    private void removePostings(Map<String, Set<Long>> fieldPostings, Set<String> terms, Long articleId) {
+        for (String term : terms) {
+            Set<Long> articleIds = fieldPostings.get(term);
+            if (articleIds != null && articleIds.remove(articleId) && articleIds.isEmpty()) {
+                fieldPostings.remove(term);
+            }
+        }
+    }
+
+
+    private record IndexedDocument(LocalDateTime createdAt, Set<String> titleTerms, Set<String> contentTerms) {}
+
+}
@@ -0,0 +1,263 @@
+package com.example.projectboard.service.search;
+
+import java.util.*;
+
+/**
+ * 가중치를 가진 문자열 집합을 담는 압축 접두사 트리(radix trie). 자식이 하나뿐인 경로는 한 간선으로 합쳐 노드 수를 줄인다.
+ * 노드마다 하위 트리의 최대 가중치를 들고 있어서, 접두사로 시작하는 상위 N 개를 하위 트리 전체를 훑지 않고 가중치 큰 쪽부터 찾는다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public class RadixTrie {
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingLong(Candidate::weight).reversed()
+            .thenComparing(Candidate::key)
+            .thenComparing(Candidate::terminal, Comparator.reverseOrder()); // 노드의 키는 하위 키들의 접두사이므로 이 순서면 동점은 사전 순으로 나온다
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * {@code key} 의 가중치에 {@code delta} 를 더하고 결과 가중치를 돌려준다. 0 이하가 되면 키를 지운다.
+     */
+    public long add(String key, long delta) {
+        if (key == null || key.isEmpty()) {
+            return 0;
+        }
+        if (delta == 0) {
+            return get(key);
+        }
+
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = delta > 0 ? insertPath(key, path) : findPath(key, path);
+        if (node == null) {
+            return 0;
+        }
+
+        long previous = node.weight;
+        node.weight = Math.max(0, previous + delta);
+        if (previous == 0 && node.weight > 0) {
+            size++;
+        } else if (previous > 0 && node.weight == 0) {
+            size--;
+        }
+
+        updateMaxWeights(path, previous);
+        if (node.weight == 0) {
+            prune(path);
+        }
+
+        return node.weight;
+    }
+
+    public long get(String key) {
+        Node node = findPath(key, new ArrayDeque<>());
+        return node == null ? 0 : node.weight;
+    }
+
+    /**
+     * {@code prefix} 로 시작하는 키를 가중치가 큰 순으로 최대 {@code limit} 개 돌려준다. 가중치가 같으면 사전 순이다.
+     */
+    public List<Entry> top(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Candidate start = locate(prefix == null ? "" : prefix);
+        if (start == null) {
+            return List.of();
+        }
+
+        List<Entry> entries = new ArrayList<>(limit);
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        queue.add(start);
+        while (!queue.isEmpty() && entries.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.terminal()) {
+                entries.add(new Entry(candidate.key(), candidate.weight()));
+                continue;
+            }
+
+            Node node = candidate.node();
+            if (node.weight > 0) {
+                queue.add(new Candidate(candidate.key(), node, node.weight, true));
+            }
+            for (Node child : node.children.values()) {
+                queue.add(new Candidate(candidate.key() + child.label, child, child.maxWeight, false));
+            }
+        }
+
+        return entries;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.weight = 0;
+        root.maxWeight = 0;
+        size = 0;
+    }
+
+
+    /**
+     * 키까지 내려가며 필요한 노드를 만들고, 간선 중간에서 갈라지면 간선을 쪼갠다. {@code path} 에는 루트부터 키 노드까지 쌓인다.
+     */
+    private Node insertPath(String key, Deque<Node> path) {
+        Node node = root;
+        path.push(node);
+        String rest = key;
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                child = new Node(rest);
+                node.children.put(rest.charAt(0), child);
+                path.push(child);
+                return child;
+            }
+
+            int common = commonPrefixLength(child.label, rest);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                split.maxWeight = child.maxWeight;
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+
+            node = child;
+            path.push(node);
+            rest = rest.substring(common);
+        }
+
+        return node;
+    }
+
+    private Node findPath(String key, Deque<Node> path) {
+        Node node = root;
+        path.push(node);
+        String rest = key;
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null || !rest.startsWith(child.label)) {
+                return null;
+            }
+            node = child;
+            path.push(node);
+            rest = rest.substring(child.label.length());
+        }
+
+        return node;
+    }
+
+    /**
+     * 접두사가 끝나는 지점의 노드. 접두사가 간선 중간에서 끝나면 그 간선 아래 노드를 간선 전체 문자열과 함께 돌려준다.
+     */
+    private Candidate locate(String prefix) {
+        Node node = root;
+        StringBuilder key = new StringBuilder();
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                return null;
+            }
+
+            int common = commonPrefixLength(child.label, rest);
+            if (common == rest.length()) {
+                return new Candidate(key.append(child.label).toString(), child, child.maxWeight, false);
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+
+            key.append(child.label);
+            node = child;
+            rest = rest.substring(common);
+        }
+
+        return node.maxWeight > 0 ? new Candidate(key.toString(), node, node.maxWeight, false) : null;
+    }
+
+    /**
+     * 키 노드에서 루트 쪽으로 올라가며 하위 트리 최대 가중치를 고친다. 값이 그대로인 노드를 만나면 그 위도 그대로이므로 멈춘다.
+     */
+    private void updateMaxWeights(Deque<Node> path, long previousWeight) {
+        Iterator<Node> iterator = path.iterator();
+        Node node = iterator.next();
+        long changed = node.weight;
+        boolean increased = changed > previousWeight;
+        recomputeMaxWeight(node);
+
+        while (iterator.hasNext()) {
+            Node parent = iterator.next();
+            long before = parent.maxWeight;
+            if (increased) {
+                parent.maxWeight = Math.max(before, changed);
+            } else if (before == previousWeight) {
+                recomputeMaxWeight(parent); // 줄어든 값이 이 하위 트리의 최댓값이었을 때만 다시 구한다
+            }
+            if (parent.maxWeight == before) {
+                return;
+            }
+        }
+    }
+
+    private void recomputeMaxWeight(Node node) {
+        long max = node.weight;
+        for (Node child : node.children.values()) {
+            max = Math.max(max, child.maxWeight);
+        }
+        node.maxWeight = max;
+    }
+
+    /**
+     * 키를 지운 뒤 빈 잎 노드를 떼어 내고, 자식이 하나 남은 중간 노드는 자식과 합쳐 압축 상태를 유지한다.
+     */
+    private void prune(Deque<Node> path) {
+        Node node = path.pop();
+        while (!path.isEmpty()) {
+            Node parent = path.pop();
+            if (node.weight == 0 && node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.weight == 0 && node.children.size() == 1) {
+                Node child = node.children.values().iterator().next();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+                return;
+            } else {
+                return;
+            }
+            node = parent;
+        }
+    }
+
+    private int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+
+        return i;
+    }
+
+
+    public record Entry(String key, long weight) {}
+
+    private record Candidate(String key, Node node, long weight, boolean terminal) {}
+
+    private static class Node {
+        private String label; // 부모에서 이 노드로 오는 간선의 문자열
+        private long weight; // 0 이면 이 노드에서 끝나는 키가 없다
+        private long maxWeight; // 이 노드와 하위 노드의 가중치 중 최댓값
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+}
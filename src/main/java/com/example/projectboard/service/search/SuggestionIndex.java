@@ -0,0 +1,192 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.config.SearchConfig;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.dto.ArticleTitle;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.example.projectboard.service.event.HashtagEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색창 자동완성용 색인. 해시태그와 제목 단어를 각각 {@link RadixTrie} 에 담고, 가중치로 게시글 수를 쓴다.
+ * 키 입력마다 DB 를 읽지 않도록 기동 시 한 번 적재하고, 이후에는 게시글/해시태그 이벤트로 바뀐 부분만 반영한다.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 30;
+
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final SearchConfig.SearchProperties searchProperties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RadixTrie hashtags = new RadixTrie();
+    private final RadixTrie titleTerms = new RadixTrie();
+    private final Map<Long, String[]> articleTerms = new HashMap<>(); // 수정/삭제 때 이전 제목의 단어를 빼기 위한 정방향 색인
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public SuggestionIndex(ArticleRepository articleRepository, HashtagRepository hashtagRepository, SearchConfig.SearchProperties searchProperties) {
+        this.articleRepository = articleRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    /** 게시글 수가 많은 순으로 {@code prefix} 로 시작하는 해시태그. 앞의 '#' 은 있어도 없어도 된다. */
+    public List<RadixTrie.Entry> suggestHashtags(String prefix, int limit) {
+        String normalized = Hashtag.normalize(prefix);
+        return suggest(hashtags, normalized, limit);
+    }
+
+    /** 게시글 수가 많은 순으로 {@code prefix} 로 시작하는 제목 단어 */
+    public List<RadixTrie.Entry> suggestTitleTerms(String prefix, int limit) {
+        String normalized = prefix == null ? null : prefix.strip().toLowerCase(Locale.ROOT);
+        return suggest(titleTerms, normalized, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!searchProperties.isIndexEnabled()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int chunkSize = searchProperties.getLoadChunkSize();
+        long lastArticleId = 0L;
+        List<ArticleTitle> chunk;
+        do {
+            chunk = articleRepository.findTitles(lastArticleId, chunkSize);
+            lock.writeLock().lock();
+            try {
+                chunk.stream()
+                        .filter(article -> !articleTerms.containsKey(article.id()) && !removedWhileLoading.contains(article.id()))
+                        .forEach(article -> addTitle(article.id(), article.title()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                lastArticleId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == chunkSize);
+
+        // 해시태그는 증감 이벤트만 오므로 적재 전 이벤트는 버리고, 적재를 맨 끝에 해서 그 사이 놓치는 이벤트를 줄인다
+        List<Hashtag> hashtagsInUse = hashtagRepository.findHashtagsInUse(Pageable.unpaged());
+        lock.writeLock().lock();
+        try {
+            hashtags.clear();
+            hashtagsInUse.forEach(hashtag -> hashtags.add(hashtag.getHashtagName(), hashtag.getArticleCount()));
+            removedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("자동완성 색인 적재 완료 - 해시태그 수: {}, 제목 단어 수: {}, 소요 시간: {}ms",
+                hashtagsInUse.size(), titleTerms.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (!searchProperties.isIndexEnabled()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeTitle(event.articleId());
+            switch (event.type()) {
+                case CREATED, UPDATED -> addTitle(event.articleId(), event.title());
+                case DELETED -> {
+                    if (!ready) {
+                        removedWhileLoading.add(event.articleId());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onHashtagEvent(HashtagEvent event) {
+        if (!ready) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            event.hashtagNames().forEach(hashtagName -> hashtags.add(hashtagName, event.delta()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목에서 자동완성 후보 단어를 뽑는다. 문자/숫자가 아닌 문자를 경계로 나누고, 너무 짧거나 긴 단어는 버린다.
+     */
+    static Set<String> titleTermsOf(String title) {
+        Set<String> terms = new HashSet<>();
+        if (title == null) {
+            return terms;
+        }
+
+        for (String word : title.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= MIN_TERM_LENGTH && word.length() <= MAX_TERM_LENGTH) {
+                terms.add(word);
+            }
+        }
+
+        return terms;
+    }
+
+
+    private List<RadixTrie.Entry> suggest(RadixTrie trie, String prefix, int limit) {
+        if (!ready || prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.top(prefix, Math.min(limit, MAX_SUGGESTIONS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addTitle(Long articleId, String title) {
+        String[] terms = titleTermsOf(title).toArray(String[]::new);
+        for (String term : terms) {
+            titleTerms.add(term, 1);
+        }
+        articleTerms.put(articleId, terms);
+    }
+
+    private void removeTitle(Long articleId) {
+        String[] terms = articleTerms.remove(articleId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            titleTerms.add(term, -1);
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.config.SearchConfig;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.UserAccountEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유저 ID/닉네임 부분 일치 검색용 메모리 색인. 게시글마다 {@code user_account} 를 조인해 {@code LIKE '%keyword%'} 를 거는 대신,
+ * 여기서 일치하는 유저 ID 를 먼저 찾고 게시글은 {@code userId IN (...)} 으로 조회한다.
+ * 값을 소문자 3-gram 으로 쪼개 색인하고, 3자 이상 검색어는 3-gram 교집합으로 후보를 줄인 뒤 실제 포함 여부를 확인한다.
+ * 유저 수는 게시글 수보다 훨씬 적으므로 더 짧은 검색어는 전체 유저를 훑는다.
+ */
+@Slf4j
+@Component
+public class UserLookupIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_MATCHED_USERS = 1_000; // 이보다 많이 일치하면 IN 절이 너무 커지므로 DB 검색에 맡긴다
+
+    private final UserAccountRepository userAccountRepository;
+    private final SearchConfig.SearchProperties searchProperties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, String> nicknames = new HashMap<>(); // 유저 ID -> 닉네임(소문자)
+    private final Map<String, Set<String>> userIdGrams = new HashMap<>();
+    private final Map<String, Set<String>> nicknameGrams = new HashMap<>();
+    private final Set<String> removedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public UserLookupIndex(UserAccountRepository userAccountRepository, SearchConfig.SearchProperties searchProperties) {
+        this.userAccountRepository = userAccountRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    public boolean supports(SearchType searchType) {
+        return searchType == SearchType.ID || searchType == SearchType.NICKNAME;
+    }
+
+    /**
+     * 검색어를 포함하는 유저 ID 목록. 색인을 쓸 수 없거나 일치하는 유저가 너무 많으면 비어 있는 {@link Optional} 을 반환한다.
+     */
+    public Optional<Set<String>> findUserIds(SearchType searchType, String keyword) {
+        if (!ready || !supports(searchType) || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        String term = keyword.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            Set<String> matched = new HashSet<>();
+            for (String userId : candidates(searchType, term)) {
+                String value = searchType == SearchType.ID ? userId.toLowerCase(Locale.ROOT) : nicknames.get(userId);
+                if (value != null && value.contains(term)) {
+                    matched.add(userId);
+                    if (matched.size() > MAX_MATCHED_USERS) {
+                        return Optional.empty();
+                    }
+                }
+            }
+
+            return Optional.of(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!searchProperties.isIndexEnabled()) {
+            return;
+        }
+
+        List<UserAccount> userAccounts = userAccountRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            userAccounts.forEach(userAccount -> {
+                String userId = userAccount.getUserId();
+                if (!nicknames.containsKey(userId) && !removedWhileLoading.contains(userId)) { // 적재 중 이벤트로 들어온 최신 상태를 덮어쓰지 않는다
+                    addInternal(userId, userAccount.getNickname());
+                }
+            });
+            removedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("유저 검색 색인 적재 완료 - 유저 수: {}", size());
+    }
+
+    @TransactionalEventListener
+    public void onUserAccountEvent(UserAccountEvent event) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(event.userId());
+            if (event.type() == UserAccountEvent.Type.SAVED) {
+                addInternal(event.userId(), event.nickname());
+                removedWhileLoading.remove(event.userId());
+            } else if (!ready) {
+                removedWhileLoading.add(event.userId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nicknames.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private Collection<String> candidates(SearchType searchType, String term) {
+        if (term.length() < GRAM_LENGTH) {
+            return nicknames.keySet();
+        }
+
+        Map<String, Set<String>> postings = searchType == SearchType.ID ? userIdGrams : nicknameGrams;
+        List<Set<String>> matchedPostings = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Set<String> userIds = postings.get(gram);
+            if (userIds == null) {
+                return Set.of();
+            }
+            matchedPostings.add(userIds);
+        }
+        matchedPostings.sort(Comparator.comparingInt(Set::size));
+
+        return matchedPostings.get(0); // 가장 작은 후보 집합만 훑고 실제 포함 여부는 호출한 쪽에서 확인한다
+    }
+
+    private void addInternal(String userId, String nickname) {
+        String lowerNickname = nickname == null ? "" : nickname.toLowerCase(Locale.ROOT);
+        nicknames.put(userId, lowerNickname);
+        grams(userId.toLowerCase(Locale.ROOT)).forEach(gram -> userIdGrams.computeIfAbsent(gram, k -> new HashSet<>()).add(userId));
+        grams(lowerNickname).forEach(gram -> nicknameGrams.computeIfAbsent(gram, k -> new HashSet<>()).add(userId));
+    }
+
+    private void removeInternal(String userId) {
+        String previousNickname = nicknames.remove(userId);
+        if (previousNickname == null) {
+            return;
+        }
+        removePostings(userIdGrams, grams(userId.toLowerCase(Locale.ROOT)), userId);
+        removePostings(nicknameGrams, grams(previousNickname), userId);
+    }
+
+    private void removePostings(Map<String, Set<String>> postings, Set<String> grams, String userId) {
+        for (String gram : grams) {
+            Set<String> userIds = postings.get(gram);
+            if (userIds != null && userIds.remove(userId) && userIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+
+        return grams;
+    }
+
+}
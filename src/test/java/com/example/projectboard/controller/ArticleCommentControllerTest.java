@@ -1,8 +1,11 @@
 package com.example.projectboard.controller;
 
 import com.example.projectboard.config.SecurityConfig;
+import com.example.projectboard.dto.ArticleCommentBulkResult;
 import com.example.projectboard.dto.ArticleCommentDto;
 import com.example.projectboard.dto.request.ArticleCommentRequest;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.ArticleCommentBulkService;
 import com.example.projectboard.service.ArticleCommentService;
 import com.example.projectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +17,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,6 +40,8 @@ class ArticleCommentControllerTest {
 
     @MockBean
     private ArticleCommentService articleCommentService;
+    @MockBean
+    private ArticleCommentBulkService articleCommentBulkService;
 
     public ArticleCommentControllerTest(
             @Autowired MockMvc mvc,
@@ -81,4 +91,63 @@ class ArticleCommentControllerTest {
                 .andExpect(redirectedUrl("/articles/" + articleId));
         then(articleCommentService).should().deleteArticleComment(articleCommentId);
     }
-}
\ No newline at end of file
+
+    @DisplayName("[api][POST] 댓글 일괄 등록 - JSON 요청은 CSRF 토큰 없이 로그인 세션만으로 호출한다")
+    @Test
+    void givenJsonBulkRequestWithoutCsrfToken_whenRequesting_thenSavesArticleComments() throws Exception {
+        // Given
+        given(articleCommentBulkService.saveArticleComments(anyList(), anyString()))
+                .willReturn(ArticleCommentBulkResult.of(1, 1, List.of()));
+
+        // When & Then
+        mvc.perform(
+                        post("/comments/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[{\"articleId\": 1, \"content\": \"comment\"}]")
+                                .with(user(createPrincipal()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.saved").value(1));
+    }
+
+    @DisplayName("[api][POST] 댓글 일괄 등록 - JSON 이 아닌 요청은 CSRF 토큰이 없으면 거절한다")
+    @Test
+    void givenNonJsonBulkRequestWithoutCsrfToken_whenRequesting_thenForbidden() throws Exception {
+        // When & Then
+        mvc.perform(
+                        post("/comments/bulk")
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .content("[{\"articleId\": 1, \"content\": \"comment\"}]")
+                                .with(user(createPrincipal()))
+                )
+                .andExpect(status().isForbidden());
+        then(articleCommentBulkService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][POST] 댓글 일괄 등록 - 빈 항목이나 게시글 ID 가 없는 항목이 있으면 400 으로 거절한다")
+    @Test
+    void givenNullOrInvalidItem_whenRequesting_thenBadRequest() throws Exception {
+        // When & Then
+        mvc.perform(
+                        post("/comments/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[{\"articleId\": 1, \"content\": \"comment\"}, null]")
+                                .with(user(createPrincipal()))
+                )
+                .andExpect(status().isBadRequest());
+        mvc.perform(
+                        post("/comments/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[{\"content\": \"comment\"}]")
+                                .with(user(createPrincipal()))
+                )
+                .andExpect(status().isBadRequest());
+        then(articleCommentBulkService).shouldHaveNoInteractions();
+    }
+
+
+    private BoardPrincipal createPrincipal() {
+        return BoardPrincipal.of("uno", "pw", "uno@mail.com", "Uno", null);
+    }
+
+}
@@ -4,12 +4,17 @@ import com.example.projectboard.TestSecurityConfig;
 import com.example.projectboard.domain.constant.FormStatus;
 import com.example.projectboard.domain.constant.SearchType;
 import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleModification;
+import com.example.projectboard.dto.ArticleRankDto;
 import com.example.projectboard.dto.ArticleWithCommentsDto;
 import com.example.projectboard.dto.UserAccountDto;
 import com.example.projectboard.dto.request.ArticleRequest;
 import com.example.projectboard.dto.response.ArticleResponse;
 import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.ArticleViewCountService;
 import com.example.projectboard.service.PaginationService;
+import com.example.projectboard.service.TrendingArticleService;
+import com.example.projectboard.service.cache.ArticleDetailCache;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,21 +22,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import com.example.projectboard.util.FormDataEncoder;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +56,9 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
     @MockBean private ArticleService articleService;
     @MockBean private PaginationService paginationService;
+    @MockBean private ArticleDetailCache articleDetailCache;
+    @MockBean private ArticleViewCountService articleViewCountService;
+    @MockBean private TrendingArticleService trendingArticleService;
 
     public ArticleControllerTest(
             @Autowired MockMvc mvc,
@@ -69,6 +82,120 @@ class ArticleControllerTest {
 
         then(articleService).should().getArticle(articleId);
     }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 바뀐 게 없으면 댓글을 읽지 않고 304 를 준다")
+    @Test
+    void givenUnchangedArticle_whenRequestingWithEtag_thenReturnsNotModified() throws Exception {
+        // Given
+        Long articleId = 1L;
+        given(articleService.getArticleModification(articleId))
+                .willReturn(Optional.of(ArticleModification.of(articleId, 0L, LocalDateTime.of(2023, 2, 1, 0, 0), 0L, 0L)));
+        given(articleService.getArticleCount()).willReturn(1L);
+        given(articleDetailCache.getArticleWithComments(eq(articleId), any(Pageable.class))).willReturn(createArticleWithCommentsDto());
+        MockHttpSession session = new MockHttpSession();
+        String etag = mvc.perform(get("/articles/" + articleId).session(session).with(user("unoTest")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).with(user("unoTest")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        then(articleDetailCache).should(times(1)).getArticleWithComments(eq(articleId), any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 다시 로그인해 세션이 바뀌면, 새 CSRF 토큰으로 다시 렌더링한다")
+    @Test
+    void givenNewSession_whenRequestingWithEtag_thenRendersAgain() throws Exception {
+        // Given
+        Long articleId = 1L;
+        given(articleService.getArticleModification(articleId))
+                .willReturn(Optional.of(ArticleModification.of(articleId, 0L, LocalDateTime.of(2023, 2, 1, 0, 0), 0L, 0L)));
+        given(articleService.getArticleCount()).willReturn(1L);
+        given(articleDetailCache.getArticleWithComments(eq(articleId), any(Pageable.class))).willReturn(createArticleWithCommentsDto());
+        String etag = mvc.perform(get("/articles/" + articleId).session(new MockHttpSession()).with(user("unoTest")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(new MockHttpSession()).with(user("unoTest")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        then(articleDetailCache).should(times(2)).getArticleWithComments(eq(articleId), any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 수정 시각이 같아도 게시글 버전이 바뀌면 다시 렌더링한다")
+    @Test
+    void givenArticleVersionChanged_whenRequestingWithEtag_thenRendersAgain() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2023, 2, 1, 0, 0);
+        given(articleService.getArticleModification(articleId))
+                .willReturn(Optional.of(ArticleModification.of(articleId, 0L, modifiedAt, 0L, 0L)))
+                .willReturn(Optional.of(ArticleModification.of(articleId, 1L, modifiedAt, 0L, 0L)));
+        given(articleService.getArticleCount()).willReturn(1L);
+        given(articleDetailCache.getArticleWithComments(eq(articleId), any(Pageable.class))).willReturn(createArticleWithCommentsDto());
+        MockHttpSession session = new MockHttpSession();
+        String etag = mvc.perform(get("/articles/" + articleId).session(session).with(user("unoTest")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).with(user("unoTest")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        then(articleDetailCache).should(times(2)).getArticleWithComments(eq(articleId), any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 게시글 페이지 - 댓글 수가 같아도 댓글이 수정되어 댓글 리비전이 바뀌면 다시 렌더링한다")
+    @Test
+    void givenCommentRevisionChanged_whenRequestingWithEtag_thenRendersAgain() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2023, 2, 1, 0, 0);
+        given(articleService.getArticleModification(articleId))
+                .willReturn(Optional.of(ArticleModification.of(articleId, 0L, modifiedAt, 3L, 5L)))
+                .willReturn(Optional.of(ArticleModification.of(articleId, 0L, modifiedAt, 3L, 6L)));
+        given(articleService.getArticleCount()).willReturn(1L);
+        given(articleDetailCache.getArticleWithComments(eq(articleId), any(Pageable.class))).willReturn(createArticleWithCommentsDto());
+        MockHttpSession session = new MockHttpSession();
+        String etag = mvc.perform(get("/articles/" + articleId).session(session).with(user("unoTest")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mvc.perform(get("/articles/" + articleId).session(session).with(user("unoTest")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        then(articleDetailCache).should(times(2)).getArticleWithComments(eq(articleId), any(Pageable.class));
+    }
+
+    @DisplayName("[view][GET] 인기글 페이지 - 정상 호출")
+    @Test
+    void givenNothing_whenRequestingTrendingView_thenReturnsTrendingView() throws Exception {
+        // Given
+        given(trendingArticleService.getTrendingArticles()).willReturn(List.of());
+
+        // When & Then
+        mvc.perform(get("/articles/trending").accept(MediaType.TEXT_HTML))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/trending"))
+                .andExpect(model().attributeExists("articles"));
+        then(trendingArticleService).should().getTrendingArticles();
+    }
+
+    @DisplayName("[api][GET] 인기글 목록 - JSON 을 요청하면 JSON 으로 준다")
+    @Test
+    void givenJsonAccept_whenRequestingTrending_thenReturnsJson() throws Exception {
+        // Given
+        given(trendingArticleService.getTrendingArticles())
+                .willReturn(List.of(ArticleRankDto.of(createArticleDto(), 42L)));
+
+        // When & Then
+        mvc.perform(get("/articles/trending").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].title").value("title"))
+                .andExpect(jsonPath("$[0].score").value(42L));
+    }
+
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 페이징, 정렬 기능")
     @Test
     void givenPagingAndSortingParams_whenSearchingArticlesPage_thenReturnsArticlesPage() throws Exception {
@@ -249,6 +376,25 @@ class ArticleControllerTest {
         then(articleService).should().updateArticle(eq(articleId), any(ArticleDto.class));
     }
 
+    @DisplayName("[view][POST] 게시글 수정 - 수정 폼을 연 뒤 다른 곳에서 먼저 수정되었으면, 409 를 응답한다")
+    @Test
+    void givenStaleArticleVersion_whenRequesting_thenReturnsConflict() throws Exception {
+        // Given
+        long articleId = 1L;
+        ArticleRequest articleRequest = ArticleRequest.of("new title", "new content", "#new", 3L);
+        willThrow(new OptimisticLockingFailureException("stale")).given(articleService).updateArticle(eq(articleId), any(ArticleDto.class));
+
+        // When & Then
+        mvc.perform(
+                        post("/articles/" + articleId + "/form")
+                                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                .content(formDataEncoder.encode(articleRequest))
+                                .with(csrf())
+                )
+                .andExpect(status().isConflict());
+        then(articleService).should().updateArticle(eq(articleId), argThat(dto -> dto.version() == 3L));
+    }
+
     @DisplayName("[view][POST] 게시글 삭제 - 정상 호출")
     @Test
     void givenArticleIdToDelete_whenRequesting_thenDeletesArticle() throws Exception {
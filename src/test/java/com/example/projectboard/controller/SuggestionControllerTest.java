@@ -0,0 +1,52 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.TestSecurityConfig;
+import com.example.projectboard.service.search.RadixTrie;
+import com.example.projectboard.service.search.SuggestionIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 자동완성")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(SuggestionController.class)
+class SuggestionControllerTest {
+
+    private final MockMvc mvc;
+    @MockBean private SuggestionIndex suggestionIndex;
+
+    public SuggestionControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][GET] 자동완성 - 해시태그와 제목 단어 후보를 게시글 수와 함께 준다")
+    @Test
+    void givenPrefix_whenRequestingSuggestions_thenReturnsHashtagsAndTitleTerms() throws Exception {
+        // Given
+        String prefix = "spr";
+        given(suggestionIndex.suggestHashtags(prefix, 5)).willReturn(List.of(new RadixTrie.Entry("spring", 7)));
+        given(suggestionIndex.suggestTitleTerms(prefix, 5)).willReturn(List.of(new RadixTrie.Entry("springboot", 3)));
+
+        // When & Then
+        mvc.perform(get("/api/suggest").queryParam("q", prefix).queryParam("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.hashtags[0].text").value("#spring"))
+                .andExpect(jsonPath("$.hashtags[0].articleCount").value(7))
+                .andExpect(jsonPath("$.titleTerms[0].text").value("springboot"));
+        then(suggestionIndex).should().suggestHashtags(prefix, 5);
+        then(suggestionIndex).should().suggestTitleTerms(prefix, 5);
+    }
+
+}
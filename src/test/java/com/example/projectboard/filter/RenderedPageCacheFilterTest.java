@@ -0,0 +1,110 @@
+package com.example.projectboard.filter;
+
+import com.example.projectboard.config.CacheConfig.RenderedPageCacheProperties;
+import com.example.projectboard.service.cache.RenderedPageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("필터 - 렌더링 페이지 캐시")
+class RenderedPageCacheFilterTest {
+
+    private final RenderedPageCacheFilter sut = new RenderedPageCacheFilter(new RenderedPageCache(
+            new RenderedPageCacheProperties(true, 100, Duration.ofMinutes(5)),
+            new SimpleMeterRegistry()
+    ));
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("비로그인 사용자가 같은 게시글 목록을 두 번 요청하면, 두 번째는 렌더링 없이 캐시된 HTML 을 준다.")
+    @Test
+    void givenAnonymousUser_whenRequestingArticlesTwice_thenRendersOnce() throws Exception {
+        // When
+        MockHttpServletResponse first = request("/articles");
+        MockHttpServletResponse second = request("/articles");
+
+        // Then
+        assertThat(renderCount).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("<html>1</html>");
+        assertThat(second.getContentType()).startsWith("text/html");
+    }
+
+    @DisplayName("캐시된 페이지의 ETag 로 조건부 요청하면, 본문 없이 304 를 준다.")
+    @Test
+    void givenCachedPageWithEtag_whenRequestingWithIfNoneMatch_thenReturnsNotModified() throws Exception {
+        // Given
+        request("/articles");
+
+        // When
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader("If-None-Match", "W/\"1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renderCount).hasValue(1);
+    }
+
+    @DisplayName("게시글 상세 페이지는, 캐시하지 않는다.")
+    @Test
+    void givenArticleDetailPath_whenRequestingTwice_thenRendersEveryTime() throws Exception {
+        // When
+        request("/articles/1");
+        request("/articles/1");
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @DisplayName("로그인한 사용자는, 캐시를 쓰지 않는다.")
+    @Test
+    void givenAuthenticatedUser_whenRequestingArticlesTwice_thenRendersEveryTime() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("uno", null, "ROLE_USER"));
+
+        // When
+        request("/articles");
+        request("/articles");
+
+        // Then
+        assertThat(renderCount).hasValue(2);
+    }
+
+
+    private MockHttpServletResponse request(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("text/html;charset=UTF-8");
+                resp.setHeader("ETag", "W/\"1\"");
+                resp.getWriter().write("<html>" + renderCount.incrementAndGet() + "</html>");
+            }
+        }));
+
+        return response;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.example.projectboard.filter;
+
+import com.example.projectboard.TestSecurityConfig;
+import com.example.projectboard.config.CacheConfig;
+import com.example.projectboard.controller.ArticleController;
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.ArticleViewCountService;
+import com.example.projectboard.service.PaginationService;
+import com.example.projectboard.service.TrendingArticleService;
+import com.example.projectboard.service.cache.ArticleDetailCache;
+import com.example.projectboard.service.cache.RenderedPageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("필터 - 렌더링 페이지 캐시와 보안 필터")
+@Import({TestSecurityConfig.class, CacheConfig.class, RenderedPageCache.class, SimpleMeterRegistry.class})
+@EnableConfigurationProperties(CacheConfig.RenderedPageCacheProperties.class)
+@WebMvcTest(ArticleController.class)
+class RenderedPageCacheSecurityTest {
+
+    private final MockMvc mvc;
+    @MockBean private ArticleService articleService;
+    @MockBean private PaginationService paginationService;
+    @MockBean private ArticleDetailCache articleDetailCache;
+    @MockBean private ArticleViewCountService articleViewCountService;
+    @MockBean private TrendingArticleService trendingArticleService;
+
+    RenderedPageCacheSecurityTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("비로그인 사용자가 게시글 목록을 두 번 요청하면, 두 번째는 컨트롤러를 거치지 않는다.")
+    @Test
+    void givenAnonymousUser_whenRequestingArticlesTwice_thenRendersOnce() throws Exception {
+        // Given
+        given(articleService.searchArticles(any(), any(), any(Pageable.class))).willReturn(Page.empty());
+
+        // When & Then
+        mvc.perform(get("/articles")).andExpect(status().isOk());
+        mvc.perform(get("/articles")).andExpect(status().isOk());
+        then(articleService).should(times(1)).searchArticles(any(), any(), any(Pageable.class));
+    }
+
+    @DisplayName("로그인한 사용자가 게시글 목록을 두 번 요청하면, 매번 렌더링한다.")
+    @Test
+    void givenAuthenticatedUser_whenRequestingArticlesTwice_thenRendersEveryTime() throws Exception {
+        // Given
+        given(articleService.searchArticles(any(), any(), any(Pageable.class))).willReturn(Page.empty());
+
+        // When & Then
+        mvc.perform(get("/articles").with(user("unoTest"))).andExpect(status().isOk());
+        mvc.perform(get("/articles").with(user("unoTest"))).andExpect(status().isOk());
+        then(articleService).should(times(2)).searchArticles(any(), any(), any(Pageable.class));
+    }
+
+    @DisplayName("비로그인 사용자의 게시글 상세 요청은, 캐시 필터에 닿기 전에 로그인 페이지로 보낸다.")
+    @Test
+    void givenAnonymousUser_whenRequestingArticle_thenRedirectsToLogin() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles/1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+}
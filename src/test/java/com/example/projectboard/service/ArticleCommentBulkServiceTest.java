@@ -0,0 +1,176 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.CommentBulkConfig.CommentBulkProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleCommentBulkResult;
+import com.example.projectboard.dto.ArticleCommentBulkResult.Failure;
+import com.example.projectboard.dto.ArticleCommentBulkResult.Reason;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.request.ArticleCommentBulkRequest;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 댓글 일괄 등록")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentBulkServiceTest {
+
+    private ArticleCommentBulkService sut;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sut = createService(Set.of("migrator"), 2);
+    }
+
+    @DisplayName("댓글 목록을 주면, 존재 여부를 한 번에 확인하고 통과한 댓글만 묶음 단위로 저장하며 실패 항목을 알려 준다.")
+    @Test
+    void givenMixedComments_whenSavingInBulk_thenSavesValidOnesAndReportsFailures() {
+        // Given
+        List<ArticleCommentDto> dtos = List.of(
+                ArticleCommentBulkRequest.of(1L, null, "첫 댓글").toDto("uno"),
+                ArticleCommentBulkRequest.of(99L, null, "없는 게시글").toDto("uno"),
+                ArticleCommentBulkRequest.of(1L, "dos", "남의 이름").toDto("uno"),
+                ArticleCommentBulkRequest.of(2L, null, " ").toDto("uno"),
+                ArticleCommentBulkRequest.of(2L, null, "둘째 댓글").toDto("uno"),
+                ArticleCommentBulkRequest.of(2L, null, "셋째 댓글").toDto("uno")
+        );
+        given(articleRepository.findExistingIds(Set.of(1L, 2L, 99L))).willReturn(List.of(1L, 2L));
+        given(userAccountRepository.findExistingUserIds(Set.of("uno", "dos"))).willReturn(List.of("uno", "dos"));
+        given(articleRepository.getReferenceById(anyLong())).willReturn(Article.of(null, "title", "content", null));
+        given(userAccountRepository.getReferenceById("uno")).willReturn(UserAccount.of("uno", "pw", null, null, null));
+
+        // When
+        ArticleCommentBulkResult result = sut.saveArticleComments(dtos, "uno");
+
+        // Then
+        assertThat(result.requested()).isEqualTo(6);
+        assertThat(result.saved()).isEqualTo(3);
+        assertThat(result.failures()).containsExactly(
+                Failure.of(1, Reason.ARTICLE_NOT_FOUND),
+                Failure.of(2, Reason.FORBIDDEN),
+                Failure.of(3, Reason.INVALID_CONTENT)
+        );
+        then(articleCommentRepository).should(times(2)).saveAll(anyList());
+        then(articleRepository).should().adjustCommentCount(1L, 1L);
+        then(articleRepository).should(times(2)).adjustCommentCount(2L, 1L);
+        then(eventPublisher).should(times(2)).publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 2L));
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 1L));
+    }
+
+    @DisplayName("신뢰하는 계정은 다른 유저 명의로 저장할 수 있고, 한 묶음이 실패해도 나머지 묶음은 저장한다.")
+    @Test
+    void givenTrustedRequesterAndFailingChunk_whenSavingInBulk_thenSavesOtherChunks() {
+        // Given
+        List<ArticleCommentDto> dtos = List.of(
+                ArticleCommentBulkRequest.of(1L, "uno", "댓글 1").toDto("migrator"),
+                ArticleCommentBulkRequest.of(1L, "ghost", "댓글 2").toDto("migrator"),
+                ArticleCommentBulkRequest.of(1L, "uno", "댓글 3").toDto("migrator"),
+                ArticleCommentBulkRequest.of(1L, "uno", "댓글 4").toDto("migrator"),
+                ArticleCommentBulkRequest.of(1L, "uno", "댓글 5").toDto("migrator")
+        );
+        given(articleRepository.findExistingIds(Set.of(1L))).willReturn(List.of(1L));
+        given(userAccountRepository.findExistingUserIds(Set.of("uno", "ghost"))).willReturn(List.of("uno"));
+        given(articleRepository.getReferenceById(1L)).willReturn(Article.of(null, "title", "content", null));
+        given(userAccountRepository.getReferenceById("uno")).willReturn(UserAccount.of("uno", "pw", null, null, null));
+        given(articleCommentRepository.saveAll(anyList()))
+                .willReturn(List.of())
+                .willThrow(new DataIntegrityViolationException("test"));
+
+        // When
+        ArticleCommentBulkResult result = sut.saveArticleComments(dtos, "migrator");
+
+        // Then
+        assertThat(result.saved()).isEqualTo(2);
+        assertThat(result.failures()).containsExactly(
+                Failure.of(1, Reason.USER_NOT_FOUND),
+                Failure.of(3, Reason.SAVE_FAILED),
+                Failure.of(4, Reason.SAVE_FAILED)
+        );
+    }
+
+    @DisplayName("최대 개수를 넘는 댓글을 주면, 아무것도 조회하지 않고 예외를 던진다.")
+    @Test
+    void givenTooManyComments_whenSavingInBulk_thenThrowsException() {
+        // Given
+        sut = createService(Set.of(), 2);
+        List<ArticleCommentDto> dtos = Collections.nCopies(11, ArticleCommentBulkRequest.of(1L, null, "댓글").toDto("uno"));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.saveArticleComments(dtos, "uno")).isInstanceOf(IllegalArgumentException.class);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("신뢰 계정 설정이 없으면, 기본값(빈 목록)으로 바인딩되어 본인 명의 댓글만 저장한다.")
+    @Test
+    void givenNoTrustedUserIdsProperty_whenSavingInBulk_thenBindsDefaultsAndSavesOwnComments() {
+        // Given
+        CommentBulkProperties properties = new Binder(new MapConfigurationPropertySource(Map.of("board.comment-bulk.chunk-size", "2")))
+                .bindOrCreate("board.comment-bulk", CommentBulkProperties.class);
+        sut = new ArticleCommentBulkService(
+                articleRepository,
+                articleCommentRepository,
+                userAccountRepository,
+                TransactionOperations.withoutTransaction(),
+                eventPublisher,
+                properties
+        );
+        List<ArticleCommentDto> dtos = List.of(
+                ArticleCommentBulkRequest.of(1L, null, "내 댓글").toDto("uno"),
+                ArticleCommentBulkRequest.of(1L, "dos", "남의 이름").toDto("uno")
+        );
+        given(articleRepository.findExistingIds(Set.of(1L))).willReturn(List.of(1L));
+        given(userAccountRepository.findExistingUserIds(Set.of("uno", "dos"))).willReturn(List.of("uno", "dos"));
+        given(articleRepository.getReferenceById(1L)).willReturn(Article.of(null, "title", "content", null));
+        given(userAccountRepository.getReferenceById("uno")).willReturn(UserAccount.of("uno", "pw", null, null, null));
+
+        // When
+        ArticleCommentBulkResult result = sut.saveArticleComments(dtos, "uno");
+
+        // Then
+        assertThat(properties.getMaxItems()).isEqualTo(5000);
+        assertThat(properties.getTrustedUserIds()).isEmpty();
+        assertThat(result.saved()).isEqualTo(1);
+        assertThat(result.failures()).containsExactly(Failure.of(1, Reason.FORBIDDEN));
+    }
+
+
+    private ArticleCommentBulkService createService(Set<String> trustedUserIds, int chunkSize) {
+        return new ArticleCommentBulkService(
+                articleRepository,
+                articleCommentRepository,
+                userAccountRepository,
+                TransactionOperations.withoutTransaction(),
+                eventPublisher,
+                new CommentBulkProperties(10, chunkSize, trustedUserIds)
+        );
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 댓글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentCountServiceTest {
+
+    private ArticleCommentCountService sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleCommentCountService(articleRepository, TransactionOperations.withoutTransaction(), 100, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("보정하면, 게시글 ID 를 구간으로 나눠 구간마다 댓글 수를 맞춘다.")
+    @Test
+    void givenArticles_whenReconciling_thenReconcilesEachIdRange() {
+        // Given
+        given(articleRepository.findMaxId()).willReturn(Optional.of(250L));
+        given(articleRepository.reconcileCommentCounts(anyLong(), anyLong())).willReturn(0);
+        long version = sut.getVersion();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        then(articleRepository).should().reconcileCommentCounts(0L, 100L);
+        then(articleRepository).should().reconcileCommentCounts(100L, 200L);
+        then(articleRepository).should().reconcileCommentCounts(200L, 250L);
+        then(articleRepository).should(times(3)).reconcileCommentCounts(anyLong(), anyLong());
+        assertThat(sut.getVersion()).isEqualTo(version);
+    }
+
+    @DisplayName("보정에서 어긋난 댓글 수를 고치면, 버전이 올라간다.")
+    @Test
+    void givenDriftedCommentCounts_whenReconciling_thenIncreasesVersion() {
+        // Given
+        given(articleRepository.findMaxId()).willReturn(Optional.of(50L));
+        given(articleRepository.reconcileCommentCounts(0L, 50L)).willReturn(2);
+        long version = sut.getVersion();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getVersion()).isEqualTo(version + 1);
+    }
+
+    @DisplayName("댓글이 달리거나 지워지면 버전이 올라가고, 수정되면 그대로다.")
+    @Test
+    void givenArticleCommentEvents_whenGettingVersion_thenCountsOnlyCreatedAndDeleted() {
+        // Given
+        long version = sut.getVersion();
+
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 1L));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.UPDATED, 1L));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.DELETED, 1L));
+
+        // Then
+        assertThat(sut.getVersion()).isEqualTo(version + 2);
+    }
+
+    @DisplayName("다시 기동한 서비스의 버전은, 이전 서비스가 이미 준 버전과 겹치지 않는다.")
+    @Test
+    void givenRestartedService_whenGettingVersion_thenDoesNotRepeatPreviousVersions() throws InterruptedException {
+        // Given
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 1L));
+        long previousVersion = sut.getVersion();
+        Thread.sleep(1);
+
+        // When
+        ArticleCommentCountService restarted = new ArticleCommentCountService(articleRepository, TransactionOperations.withoutTransaction(), 100, new SimpleMeterRegistry());
+
+        // Then
+        assertThat(restarted.getVersion()).isGreaterThan(previousVersion);
+    }
+
+}
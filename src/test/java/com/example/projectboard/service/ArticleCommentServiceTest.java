@@ -8,18 +8,25 @@ import com.example.projectboard.dto.UserAccountDto;
 import com.example.projectboard.repository.ArticleCommentRepository;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
@@ -33,6 +40,8 @@ class ArticleCommentServiceTest {
     @Mock private ArticleCommentRepository articleCommentRepository;
 
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ArticleCommentWriteQueue articleCommentWriteQueue;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -68,6 +77,8 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(articleRepository).should().adjustCommentCount(dto.articleId(), 1);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, dto.articleId()));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -86,6 +97,34 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("쓰기 큐로 댓글을 저장하면, 큐에 넣고 커밋될 때까지 기다린 뒤 돌아온다.")
+    @Test
+    void givenArticleCommentInfo_whenSavingArticleCommentQueued_thenEnqueuesAndWaitsForCommit() {
+        // Given
+        ArticleCommentDto dto = createArticleCommentDto("댓글");
+        given(articleCommentWriteQueue.enqueue(dto)).willReturn(CompletableFuture.completedFuture(null));
+        given(articleCommentWriteQueue.getReadYourWritesTimeout()).willReturn(Duration.ofSeconds(1));
+
+        // When
+        sut.saveArticleCommentQueued(dto);
+
+        // Then
+        then(articleCommentWriteQueue).should().enqueue(dto);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("쓰기 큐가 가득 차 있으면, 댓글을 저장하지 않고 예외를 던진다.")
+    @Test
+    void givenFullWriteQueue_whenSavingArticleCommentQueued_thenThrowsException() {
+        // Given
+        ArticleCommentDto dto = createArticleCommentDto("댓글");
+        given(articleCommentWriteQueue.enqueue(dto)).willThrow(new RejectedExecutionException("full"));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.saveArticleCommentQueued(dto)).isInstanceOf(RejectedExecutionException.class);
+        then(articleCommentRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 수정한다.")
     @Test
     void givenArticleCommentInfo_whenUpdatingArticleComment_thenUpdatesArticleComment() {
@@ -104,6 +143,7 @@ class ArticleCommentServiceTest {
                 .isNotEqualTo(oldContent)
                 .isEqualTo(updatedContent);
         then(articleCommentRepository).should().getReferenceById(dto.id());
+        then(articleRepository).should().increaseCommentRevision(articleComment.getArticle().getId());
     }
 
     @DisplayName("없는 댓글 정보를 수정하려고 하면, 경고 로그를 찍고 아무 것도 안 한다.")
@@ -134,6 +174,24 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().deleteById(articleCommentId);
     }
 
+    @DisplayName("댓글 ID와 작성자를 입력하면, 댓글을 삭제하고 댓글 삭제 이벤트를 발행한다.")
+    @Test
+    void givenArticleCommentIdAndUserId_whenDeletingArticleComment_thenDeletesAndPublishesEvent() {
+        // Given
+        Long articleCommentId = 1L;
+        String userId = "uno";
+        given(articleCommentRepository.findArticleIdById(articleCommentId)).willReturn(Optional.of(10L));
+        given(articleCommentRepository.deleteByIdAndUserId(articleCommentId, userId)).willReturn(1);
+
+        // When
+        sut.deleteArticleComment(articleCommentId, userId);
+
+        // Then
+        then(articleCommentRepository).should().deleteByIdAndUserId(articleCommentId, userId);
+        then(articleRepository).should().adjustCommentCount(10L, -1);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.DELETED, 10L));
+    }
+
 
     private ArticleCommentDto createArticleCommentDto(String content) {
         return ArticleCommentDto.of(
@@ -0,0 +1,166 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.CommentQueueConfig.CommentQueueProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 댓글 쓰기 큐")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentWriteQueueTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final CountDownLatch transactionEntered = new CountDownLatch(1);
+    private final CountDownLatch transactionReleased = new CountDownLatch(1);
+    private ArticleCommentWriteQueue sut;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        transactionReleased.countDown();
+        sut.stop();
+    }
+
+    @DisplayName("같은 게시글에 댓글이 몰리면, 쓰기 스레드가 모아서 한 트랜잭션으로 저장하고 커밋 뒤 future 를 완료한다.")
+    @Test
+    void givenBurstOfComments_whenEnqueuing_thenWritesThemInOneTransaction() throws Exception {
+        // Given
+        sut = createQueue(2000, Duration.ofMillis(300), false);
+        given(articleRepository.getReferenceById(1L)).willReturn(Article.of(null, "title", "content", null));
+        given(userAccountRepository.getReferenceById("uno")).willReturn(UserAccount.of("uno", "pw", null, null, null));
+
+        // When
+        CompletableFuture<?>[] written = {
+                sut.enqueue(createArticleCommentDto("댓글 1")),
+                sut.enqueue(createArticleCommentDto("댓글 2")),
+                sut.enqueue(createArticleCommentDto("댓글 3"))
+        };
+        CompletableFuture.allOf(written).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(transactions).hasValue(1);
+        then(articleCommentRepository).should(times(3)).save(any(ArticleComment.class));
+        then(eventPublisher).should(times(3)).publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 1L));
+    }
+
+    @DisplayName("쓰기 스레드가 밀려 큐가 가득 차면, 더 넣으려는 댓글은 바로 거절한다.")
+    @Test
+    void givenFullQueue_whenEnqueuing_thenRejects() throws Exception {
+        // Given
+        sut = createQueue(1, Duration.ZERO, true);
+        sut.enqueue(createArticleCommentDto("저장 중인 댓글"));
+        assertThat(transactionEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        sut.enqueue(createArticleCommentDto("대기 중인 댓글"));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.enqueue(createArticleCommentDto("넘친 댓글"))).isInstanceOf(RejectedExecutionException.class);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("댓글을 넣는 도중에 큐를 닫아도, 받은 댓글은 모두 저장하고 future 를 완료한다.")
+    @Test
+    void givenConcurrentEnqueues_whenStopping_thenCompletesEveryAcceptedComment() throws Exception {
+        // Given
+        sut = createQueue(10_000, Duration.ZERO, false);
+        given(articleRepository.getReferenceById(1L)).willReturn(Article.of(null, "title", "content", null));
+        given(userAccountRepository.getReferenceById("uno")).willReturn(UserAccount.of("uno", "pw", null, null, null));
+        List<CompletableFuture<Void>> accepted = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            producers.execute(() -> {
+                while (true) {
+                    try {
+                        accepted.add(sut.enqueue(createArticleCommentDto("댓글")));
+                    } catch (RejectedExecutionException e) {
+                        return;
+                    }
+                }
+            });
+        }
+        while (accepted.size() < 100) {
+            Thread.sleep(1);
+        }
+
+        // When
+        sut.stop();
+        producers.shutdown();
+
+        // Then
+        assertThat(producers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(accepted).allMatch(CompletableFuture::isDone);
+    }
+
+
+    private ArticleCommentWriteQueue createQueue(int capacity, Duration maxBatchDelay, boolean blockTransactions) {
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                transactionEntered.countDown();
+                if (blockTransactions) {
+                    try {
+                        transactionReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                }
+                return action.doInTransaction(null);
+            }
+        };
+        ArticleCommentWriteQueue queue = new ArticleCommentWriteQueue(
+                articleRepository,
+                articleCommentRepository,
+                userAccountRepository,
+                transactionOperations,
+                eventPublisher,
+                new CommentQueueProperties(true, 1, capacity, 100, maxBatchDelay, Duration.ofSeconds(1)),
+                new SimpleMeterRegistry()
+        );
+        queue.start();
+
+        return queue;
+    }
+
+    private ArticleCommentDto createArticleCommentDto(String content) {
+        return ArticleCommentDto.of(1L, UserAccountDto.of("uno", "pw", null, null, null), content);
+    }
+
+}
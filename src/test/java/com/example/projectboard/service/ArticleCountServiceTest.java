@@ -0,0 +1,108 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+
+    private ArticleCountService sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleCountService(articleRepository, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("게시글 수를 여러 번 조회하면, DB 는 처음 한 번만 조회한다.")
+    @Test
+    void givenSeededCount_whenCountingRepeatedly_thenQueriesDatabaseOnce() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+
+        // When
+        sut.getCount();
+        long actual = sut.getCount();
+
+        // Then
+        assertThat(actual).isEqualTo(10L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("게시글 생성/삭제 이벤트를 받으면, 게시글 수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenCounting_thenReturnsAdjustedCount() {
+        // Given
+        given(articleRepository.count()).willReturn(10L);
+        sut.seed();
+
+        // When
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 11L, "title", "content", "#java", null));
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 12L, "title", "content", "#java", null));
+        sut.onArticleEvent(ArticleEvent.ofDeleted(1L));
+
+        // Then
+        assertThat(sut.getCount()).isEqualTo(11L);
+    }
+
+    @DisplayName("캐시 값이 DB 와 다르면, 보정 시 DB 값으로 맞춘다.")
+    @Test
+    void givenDriftedCount_whenReconciling_thenResetsToDatabaseCount() {
+        // Given
+        given(articleRepository.count()).willReturn(10L, 13L);
+        sut.seed();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getCount()).isEqualTo(13L);
+    }
+
+    @DisplayName("보정 중 DB 를 세는 동안 게시글이 생성되면, DB 값으로 덮어쓰지 않고 이번 보정을 건너뛴다.")
+    @Test
+    void givenArticleCreatedDuringCountQuery_whenReconciling_thenKeepsEventCount() {
+        // Given
+        given(articleRepository.count())
+                .willReturn(10L)
+                .willAnswer(invocation -> {
+                    sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 11L, "title", "content", "#java", null));
+                    return 10L;
+                });
+        sut.seed();
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.getCount()).isEqualTo(11L);
+    }
+
+    @DisplayName("보정하면, 조회 전 캐시 값과의 차이만 더하므로 조회 뒤에 받은 이벤트는 그대로 남는다.")
+    @Test
+    void givenArticleCreatedAfterCountQuery_whenReconciling_thenAppliesDriftAsDelta() {
+        // Given
+        given(articleRepository.count()).willReturn(10L, 12L);
+        sut.seed();
+
+        // When
+        sut.reconcile();
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 13L, "title", "content", "#java", null));
+
+        // Then
+        assertThat(sut.getCount()).isEqualTo(13L);
+    }
+
+}
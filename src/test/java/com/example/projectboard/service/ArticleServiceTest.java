@@ -1,28 +1,50 @@
 package com.example.projectboard.service;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ApproximatePage;
+import com.example.projectboard.dto.ArticleCursor;
 import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import com.example.projectboard.dto.ArticleSummaryDto;
 import com.example.projectboard.dto.ArticleWithCommentsDto;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.example.projectboard.service.search.ArticleSearchIndex;
+import com.example.projectboard.service.search.UserLookupIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,21 +57,32 @@ class ArticleServiceTest {
     @InjectMocks private ArticleService sut;
 
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private UserLookupIndex userLookupIndex;
+    @Mock private ArticleCountService articleCountService;
+    @Mock private ArticleCommentCountService articleCommentCountService;
+    @Mock private HashtagService hashtagService;
+    @Mock private HashtagCatalog hashtagCatalog;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private ParallelQueries parallelQueries = new ParallelQueries(TransactionOperations.withoutTransaction(), 2, Duration.ofSeconds(1));
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.searchSummaryContent(null, null, pageable)).willReturn(List.of());
+        given(articleCountService.getCount()).willReturn(0L);
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().searchSummaryContent(null, null, pageable);
+        then(articleCountService).should().getCount();
     }
 
     @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
@@ -59,14 +92,154 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleRepository.searchSummaryContent(searchType, searchKeyword, pageable, 61L)).willReturn(List.of());
 
         // When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().searchSummaryContent(searchType, searchKeyword, pageable, 61L);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("DB 에서 검색할 때 다음 페이지들 너머에도 게시글이 있으면, count 쿼리 없이 전체 건수의 하한을 준다.")
+    @Test
+    void givenManyMatches_whenSearchingArticles_thenReturnsApproximateTotalWithoutCounting() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = PageRequest.of(1, 2);
+        List<ArticleSummaryDto> rows = Collections.nCopies(7, createArticleSummaryDto());
+        given(articleRepository.searchSummaryContent(searchType, searchKeyword, pageable, 7L)).willReturn(rows);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isInstanceOf(ApproximatePage.class);
+        assertThat(((ApproximatePage<ArticleSummaryDto>) articles).isExactTotal()).isFalse();
+        assertThat(articles.getContent()).hasSize(2);
+        assertThat(articles.getTotalElements()).isEqualTo(9);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().searchSummaryContent(searchType, searchKeyword, pageable, 7L);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("DB 에서 검색할 때 마지막 페이지 너머를 요청하면, 그때만 count 쿼리로 정확한 전체 건수를 준다.")
+    @Test
+    void givenPageBeyondLastMatch_whenSearchingArticles_thenCountsExactTotal() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = PageRequest.of(5, 2);
+        given(articleRepository.searchSummaryContent(searchType, searchKeyword, pageable, 7L)).willReturn(List.of());
+        given(articleRepository.countSummaries(searchType, searchKeyword)).willReturn(3L);
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(((ApproximatePage<ArticleSummaryDto>) articles).isExactTotal()).isTrue();
+        assertThat(articles.getContent()).isEmpty();
+        assertThat(articles.getTotalElements()).isEqualTo(3);
+        assertThat(articles.getTotalPages()).isEqualTo(2);
+    }
+
+    @DisplayName("닉네임으로 검색하면, 유저 색인에서 찾은 유저 ID 로 작성자 조건을 걸어 조회한다.")
+    @Test
+    void givenNicknameKeyword_whenSearchingArticles_thenSearchesByUserIdsFromLookupIndex() {
+        // Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "uno";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummaryDto article = createArticleSummaryDto();
+        given(userLookupIndex.findUserIds(searchType, searchKeyword)).willReturn(Optional.of(Set.of("uno")));
+        given(articleRepository.findSummaryContentByUserIdIn(Set.of("uno"), pageable, 61L)).willReturn(List.of(article));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getContent()).containsExactly(article);
+        assertThat(articles.getTotalElements()).isEqualTo(1);
+        then(articleRepository).should().findSummaryContentByUserIdIn(Set.of("uno"), pageable, 61L);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("유저 색인에 일치하는 유저가 없으면, DB 를 조회하지 않고 빈 페이지를 반환한다.")
+    @Test
+    void givenNoMatchingUsers_whenSearchingArticlesById_thenReturnsEmptyPageWithoutQuery() {
+        // Given
+        SearchType searchType = SearchType.ID;
+        String searchKeyword = "nobody";
+        Pageable pageable = Pageable.ofSize(20);
+        given(userLookupIndex.findUserIds(searchType, searchKeyword)).willReturn(Optional.of(Set.of()));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색 색인이 준비되어 있으면, 색인에서 찾은 게시글 ID 로 해당 페이지만 조회한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingArticles_thenReturnsArticlePageFromIndex() {
+        // Given
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "title";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummaryDto article = createArticleSummaryDto();
+        given(articleSearchIndex.supports(searchType, searchKeyword)).willReturn(true);
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleSearchIndex.search(searchType, searchKeyword, Sort.Direction.DESC)).willReturn(List.of(article.id()));
+        given(articleRepository.findSummariesByIdIn(List.of(article.id()))).willReturn(List.of(article));
+
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(1);
+        assertThat(articles.getContent()).containsExactly(article);
+        then(articleRepository).should().findSummariesByIdIn(List.of(article.id()));
+        then(articleRepository).should(never()).searchSummaries(searchType, searchKeyword, pageable);
+    }
+
+    @DisplayName("커서로 게시글을 조회하면, 한 건 더 조회해서 다음 페이지 여부를 판단한다.")
+    @Test
+    void givenCursor_whenSearchingOlderArticles_thenReturnsSliceWithHasNext() {
+        // Given
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.now(), 10L);
+        given(articleRepository.findOlderThan(cursor.createdAt(), cursor.id(), PageRequest.of(0, 2)))
+                .willReturn(List.of(createArticle(), createArticle()));
+
+        // When
+        Slice<ArticleDto> articles = sut.searchOlderArticles(cursor, 1);
+
+        // Then
+        assertThat(articles.getContent()).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findOlderThan(cursor.createdAt(), cursor.id(), PageRequest.of(0, 2));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("커서 페이지 크기가 범위를 벗어나면, 1 ~ 100 으로 맞춰 조회한다.")
+    @Test
+    void givenOutOfRangeSize_whenSearchingOlderArticles_thenClampsSize() {
+        // Given
+        given(articleRepository.findLatest(any(Pageable.class))).willReturn(List.of());
+
+        // When
+        Slice<ArticleDto> tooSmall = sut.searchOlderArticles(null, 0);
+        Slice<ArticleDto> tooLarge = sut.searchOlderArticles(null, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(tooSmall.getSize()).isEqualTo(1);
+        assertThat(tooLarge.getSize()).isEqualTo(100);
+        then(articleRepository).should().findLatest(PageRequest.of(0, 2));
+        then(articleRepository).should().findLatest(PageRequest.of(0, 101));
     }
 
     @DisplayName("검색어 없이 게시글 검색하면, 빈페이지 반환")
@@ -74,7 +247,7 @@ class ArticleServiceTest {
     void givenNoting_whenSearchArticle_thenReturnsEmptyPage(){
         Pageable pageable = Pageable.ofSize(20);
 
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null , pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null , pageable);
 
         assertThat(articles).isEqualTo(Page.empty(pageable));
         then(articleRepository).shouldHaveNoInteractions();
@@ -84,12 +257,14 @@ class ArticleServiceTest {
     void givenHashtag_whenSearchArticlesViaHashtag_thenReturnsArticlesPage(){
         String hashtag = "#java";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtag(hashtag,pageable)).willReturn(Page.empty(pageable));
+        given(articleRepository.searchSummaryContent(SearchType.HASHTAG, hashtag, pageable)).willReturn(List.of());
+        given(articleRepository.countSummaries(SearchType.HASHTAG, hashtag)).willReturn(0L);
 
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag , pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtag , pageable);
 
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtag(hashtag,pageable);
+        then(articleRepository).should().searchSummaryContent(SearchType.HASHTAG, hashtag, pageable);
+        then(articleRepository).should().countSummaries(SearchType.HASHTAG, hashtag);
     }
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
     @Test
@@ -143,37 +318,106 @@ class ArticleServiceTest {
         then(articleRepository).should().save(any(Article.class));
     }
 
-    @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
+    @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 엔티티로 읽지 않고 수정한 뒤 바뀐 해시태그만 다시 연결한다.")
     @Test
     void givenModifiedArticleInfo_whenUpdatingArticle_thenUpdatesArticle() {
         // Given
-        Article article = createArticle();
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
-        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        ArticleSearchDocument updated = ArticleSearchDocument.of(dto.id(), dto.title(), dto.content(), LocalDateTime.now());
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag springboot = createHashtag(2L, "springboot");
+        given(articleRepository.updateByIdAndUserId(eq(dto.id()), eq("uno"), isNull(), eq(dto.title()), eq(dto.content()), eq(dto.hashtag()), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(articleRepository.findSearchDocumentById(dto.id())).willReturn(Optional.of(updated));
+        given(hashtagService.parseHashtagNames(dto.hashtag(), dto.content())).willReturn(Set.of("springboot"));
+        given(hashtagService.findOrCreateHashtags(Set.of("springboot"))).willReturn(Set.of(springboot));
+        given(hashtagService.getHashtagsOfArticle(dto.id())).willReturn(List.of(java));
 
         // When
-        sut.updateArticle(dto.id(),dto);
+        sut.updateArticle(dto.id(), dto);
 
         // Then
-        assertThat(article)
-                .hasFieldOrPropertyWithValue("title", dto.title())
-                .hasFieldOrPropertyWithValue("content", dto.content())
-                .hasFieldOrPropertyWithValue("hashtag", dto.hashtag());
-        then(articleRepository).should().getReferenceById(dto.id());
+        then(hashtagService).should().unlinkArticle(dto.id(), Set.of(java));
+        then(hashtagService).should().linkArticle(dto.id(), Set.of(springboot));
+        then(hashtagService).should().decreaseArticleCount(Set.of(java));
+        then(hashtagService).should().increaseArticleCount(Set.of(springboot));
+        then(eventPublisher).should().publishEvent(ArticleEvent.ofUpdated(updated, dto.hashtag()));
+        then(articleRepository).should(never()).getReferenceById(any());
     }
 
-    @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
+    @DisplayName("없는 게시글이나 남의 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
     void givenNonexistentArticleInfo_whenUpdatingArticle_thenLogsWarningAndDoesNothing() {
         // Given
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
-        given(articleRepository.getReferenceById(dto.id())).willThrow(EntityNotFoundException.class);
+        given(articleRepository.updateByIdAndUserId(eq(dto.id()), eq("uno"), isNull(), eq(dto.title()), eq(dto.content()), eq(dto.hashtag()), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // When
+        sut.updateArticle(dto.id(), dto);
+
+        // Then
+        then(articleRepository).should(never()).findSearchDocumentById(any());
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("수정 폼을 연 뒤 다른 곳에서 먼저 수정된 게시글을 수정하면, 예외를 던진다.")
+    @Test
+    void givenStaleArticleVersion_whenUpdatingArticle_thenThrowsOptimisticLockingFailure() {
+        // Given
+        ArticleDto dto = ArticleDto.of(createUserAccountDto(), "새 타이틀", "새 내용", "#springboot", 3L);
+        given(articleRepository.updateByIdAndUserId(eq(1L), eq("uno"), eq(3L), eq(dto.title()), eq(dto.content()), eq(dto.hashtag()), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(articleRepository.existsByIdAndUserAccount_UserId(1L, "uno")).willReturn(true);
+
+        // When
+        Throwable t = catchThrowable(() -> sut.updateArticle(1L, dto));
+
+        // Then
+        assertThat(t).isInstanceOf(OptimisticLockingFailureException.class);
+        then(hashtagService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("작성자가 게시글을 삭제하면, 댓글과 해시태그 연결을 DELETE 문으로 먼저 지운 뒤 게시글을 지운다.")
+    @Test
+    void givenArticleIdAndOwner_whenDeletingArticle_thenDeletesCommentsAndLinksBeforeArticle() {
+        // Given
+        Long articleId = 1L;
+        Hashtag java = createHashtag(1L, "java");
+        given(articleRepository.existsByIdAndUserAccount_UserId(articleId, "uno")).willReturn(true);
+        given(hashtagService.getHashtagsOfArticle(articleId)).willReturn(List.of(java));
+        given(articleCommentRepository.deleteByArticleId(articleId)).willReturn(3);
+        given(articleRepository.deleteByIdAndUserId(articleId, "uno")).willReturn(1);
+
+        // When
+        sut.deleteArticle(articleId, "uno");
+
+        // Then
+        InOrder inOrder = inOrder(articleCommentRepository, hashtagService, articleRepository);
+        inOrder.verify(articleCommentRepository).deleteByArticleId(articleId);
+        inOrder.verify(hashtagService).unlinkArticle(articleId, List.of(java));
+        inOrder.verify(articleRepository).deleteByIdAndUserId(articleId, "uno");
+        then(hashtagService).should().decreaseArticleCount(List.of(java));
+        then(eventPublisher).should().publishEvent(ArticleEvent.ofDeleted(articleId));
+    }
+
+    @DisplayName("작성자가 아닌 유저가 게시글을 삭제하면, 아무 것도 지우지 않는다.")
+    @Test
+    void givenArticleIdAndNonOwner_whenDeletingArticle_thenDoesNothing() {
+        // Given
+        Long articleId = 1L;
+        given(articleRepository.existsByIdAndUserAccount_UserId(articleId, "dos")).willReturn(false);
 
         // When
-        sut.updateArticle(dto.id(),dto);
+        sut.deleteArticle(articleId, "dos");
 
         // Then
-        then(articleRepository).should().getReferenceById(dto.id());
+        then(articleCommentRepository).shouldHaveNoInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).deleteByIdAndUserId(any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
@@ -189,16 +433,32 @@ class ArticleServiceTest {
         // Then
         then(articleRepository).should().deleteById(articleId);
     }
+    @DisplayName("게시글 수를 조회하면, DB 를 거치지 않고 캐시된 게시글 수를 반환한다.")
+    @Test
+    void givenNothing_whenCountingArticles_thenReturnsCachedArticleCount() {
+        // Given
+        long expected = 123L;
+        given(articleCountService.getCount()).willReturn(expected);
+
+        // When
+        long actual = sut.getArticleCount();
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("해시태그 조회시, 유니크 해시태그 리스트 반환")
     @Test
     void givenNoting_whenCalling_thenReturnsHashtags(){
         List<String> expectedHashtags = List.of("#java", "#spring", "#boot");
-        given(articleRepository.findByDistinctHashtag()).willReturn(expectedHashtags);
+        given(hashtagCatalog.getHashtagNames()).willReturn(expectedHashtags);
 
-        List<String> actualHashtag = sut.getHashtag();
+        List<String> actualHashtag = sut.getHashtags();
 
         assertThat(actualHashtag).isEqualTo(expectedHashtags);
-        then(articleRepository).should().findByDistinctHashtag();
+        then(hashtagCatalog).should().getHashtagNames();
+        then(articleRepository).shouldHaveNoInteractions();
     }
     @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
     @Test
@@ -219,6 +479,29 @@ class ArticleServiceTest {
         then(articleRepository).should().findById(articleId);
     }
 
+    @DisplayName("게시글 ID 와 댓글 페이지로 조회하면, 해당 페이지의 댓글만 담긴 게시글을 반환한다.")
+    @Test
+    void givenArticleIdAndCommentPage_whenSearchingArticleWithComments_thenReturnsArticleWithCommentPage() {
+        // Given
+        Long articleId = 1L;
+        Article article = createArticle();
+        Pageable commentPageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable expectedPageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        ArticleComment articleComment = ArticleComment.of(article, createUserAccount(), "comment");
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleCommentRepository.findSliceByArticleId(articleId, expectedPageable))
+                .willReturn(new SliceImpl<>(List.of(articleComment), expectedPageable, true));
+
+        // When
+        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId, commentPageable);
+
+        // Then
+        assertThat(dto.articleCommentDtos()).hasSize(1);
+        assertThat(dto.hasNextComments()).isTrue();
+        then(articleRepository).should().findById(articleId);
+        then(articleCommentRepository).should().findSliceByArticleId(articleId, expectedPageable);
+    }
+
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
     @Test
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
@@ -258,6 +541,28 @@ class ArticleServiceTest {
         return article;
     }
 
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
+    }
+
+    private ArticleSummaryDto createArticleSummaryDto() {
+        return ArticleSummaryDto.of(
+                1L,
+                "title",
+                "content",
+                "#java",
+                LocalDateTime.now(),
+                "uno",
+                "uno@mail.com",
+                "Uno",
+                0L,
+                0L
+        );
+    }
+
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
     }
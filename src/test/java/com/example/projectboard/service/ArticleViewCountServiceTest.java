@@ -0,0 +1,116 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleViewEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCountServiceTest {
+
+    private ArticleViewCountService sut;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleViewCountService(articleRepository, jdbcTemplate, TransactionOperations.withoutTransaction(), eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("조회를 기록하고 반영하면, 게시글별 증가분을 한 번의 배치로 DB 에 반영한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenRecordedViews_whenFlushing_thenUpdatesDeltasInOneBatch() {
+        // Given
+        given(articleRepository.findMostViewed(any(Pageable.class))).willReturn(List.of());
+        sut.recordView(2L);
+        sut.recordView(1L);
+        sut.recordView(2L);
+
+        // When
+        sut.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .containsExactly(new Object[]{1L, 1L}, new Object[]{2L, 2L});
+        then(eventPublisher).should().publishEvent(ArticleViewEvent.of(Map.of(1L, 1L, 2L, 2L)));
+    }
+
+    @DisplayName("반영할 조회가 없으면, DB 를 건드리지 않는다.")
+    @Test
+    void givenNoViews_whenFlushing_thenDoesNothing() {
+        // When
+        sut.flush();
+
+        // Then
+        then(jdbcTemplate).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("DB 반영에 실패하면, 증가분을 잃지 않고 다음 반영 때 다시 시도한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenFailedFlush_whenFlushingAgain_thenRetriesDeltas() {
+        // Given
+        given(articleRepository.findMostViewed(any(Pageable.class))).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new IllegalStateException("DB 연결 실패"))
+                .willReturn(new int[]{1});
+        sut.recordView(1L);
+        sut.flush();
+
+        // When
+        sut.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{1L, 1L});
+    }
+
+    @DisplayName("배치 도중 실패하면, 이미 반영된 행까지 한 트랜잭션으로 되돌린다.")
+    @Test
+    void givenFailingBatch_whenFlushing_thenRollsBackWholeBatch() {
+        // Given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        sut = new ArticleViewCountService(articleRepository, jdbcTemplate, new TransactionTemplate(transactionManager), eventPublisher, new SimpleMeterRegistry());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new IllegalStateException("DB 연결 실패"));
+        sut.recordView(1L);
+        sut.recordView(2L);
+
+        // When
+        sut.flush();
+
+        // Then
+        then(transactionManager).should().rollback(any());
+        then(transactionManager).should(never()).commit(any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+}
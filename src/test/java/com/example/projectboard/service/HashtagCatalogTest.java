@@ -0,0 +1,101 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.event.HashtagEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그 카탈로그")
+@ExtendWith(MockitoExtension.class)
+class HashtagCatalogTest {
+
+    private HashtagCatalog sut;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock private HashtagRepository hashtagRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new HashtagCatalog(hashtagRepository, meterRegistry, 2);
+    }
+
+    @DisplayName("해시태그 목록을 여러 번 조회하면, DB 는 처음 한 번만 조회한다.")
+    @Test
+    void givenLoadedCatalog_whenSearchingRepeatedly_thenQueriesDatabaseOnce() {
+        // Given
+        given(hashtagRepository.findHashtagsInUse(any(Pageable.class)))
+                .willReturn(List.of(createHashtag("spring", 3L), createHashtag("java", 1L)));
+        sut.rebuild();
+
+        // When
+        sut.getHashtagNames();
+        List<String> actual = sut.getHashtagNames();
+
+        // Then
+        assertThat(actual).containsExactly("#java", "#spring");
+        then(hashtagRepository).should(times(1)).findHashtagsInUse(any(Pageable.class));
+        assertThat(meterRegistry.get("board.hashtag.catalog.requests").tag("result", "miss").counter().count()).isZero();
+    }
+
+    @DisplayName("해시태그 이벤트를 받으면, DB 조회 없이 게시글 수를 갱신하고 0 이 된 해시태그는 뺀다.")
+    @Test
+    void givenHashtagEvents_whenSearching_thenReturnsAdjustedFrequencies() {
+        // Given
+        given(hashtagRepository.findHashtagsInUse(any(Pageable.class)))
+                .willReturn(List.of(createHashtag("java", 1L)));
+        sut.rebuild();
+
+        // When
+        sut.onHashtagEvent(HashtagEvent.of(Set.of("spring"), 1));
+        sut.onHashtagEvent(HashtagEvent.of(Set.of("java"), -1));
+
+        // Then
+        assertThat(sut.getHashtagFrequencies()).containsExactly(entry("#spring", 1L));
+        then(hashtagRepository).should(times(1)).findHashtagsInUse(any(Pageable.class));
+    }
+
+    @DisplayName("크기 제한으로 잘린 카탈로그에서 해시태그가 빠지면, 다음 조회 때 DB 에서 다시 적재한다.")
+    @Test
+    void givenTruncatedCatalog_whenHashtagRemoved_thenRebuildsOnNextSearch() {
+        // Given
+        given(hashtagRepository.findHashtagsInUse(any(Pageable.class)))
+                .willReturn(List.of(createHashtag("spring", 3L), createHashtag("java", 1L), createHashtag("jpa", 1L)))
+                .willReturn(List.of(createHashtag("spring", 3L), createHashtag("jpa", 1L)));
+        sut.rebuild();
+
+        // When
+        sut.onHashtagEvent(HashtagEvent.of(Set.of("java"), -1));
+        List<String> actual = sut.getHashtagNames();
+
+        // Then
+        assertThat(actual).containsExactly("#jpa", "#spring");
+        then(hashtagRepository).should(times(2)).findHashtagsInUse(any(Pageable.class));
+        assertThat(meterRegistry.get("board.hashtag.catalog.rebuilds").counter().count()).isEqualTo(2);
+    }
+
+
+    private Hashtag createHashtag(String hashtagName, long articleCount) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "articleCount", articleCount);
+
+        return hashtag;
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.event.HashtagEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagServiceTest {
+
+    private HashtagService sut;
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagService(hashtagRepository, eventPublisher, () -> Optional.of("unoTest"));
+    }
+
+    @DisplayName("해시태그 입력란과 본문을 주면, 중복 없이 정규화된 해시태그 이름을 모두 찾는다.")
+    @Test
+    void givenHashtagAndContent_whenParsing_thenReturnsNormalizedHashtagNames() {
+        // Given
+        String hashtag = "#Java #spring";
+        String content = "오늘은 #스프링부트 와 #java 공부";
+
+        // When
+        Set<String> actual = sut.parseHashtagNames(hashtag, content);
+
+        // Then
+        assertThat(actual).containsExactly("java", "spring", "스프링부트");
+    }
+
+    @DisplayName("해시태그 입력란에 '#' 없이 단어만 있으면, 각 단어를 해시태그로 본다.")
+    @Test
+    void givenHashtagWithoutSharp_whenParsing_thenReturnsWordsAsHashtagNames() {
+        // When
+        Set<String> actual = sut.parseHashtagNames("java, spring", null);
+
+        // Then
+        assertThat(actual).containsExactly("java", "spring");
+    }
+
+    @DisplayName("해시태그 이름을 주면, 없는 해시태그만 새로 만든다.")
+    @Test
+    void givenHashtagNames_whenFindingOrCreating_thenCreatesOnlyMissingHashtags() {
+        // Given
+        Set<String> hashtagNames = Set.of("java", "spring");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(Hashtag.of("java")));
+        given(hashtagRepository.insertIfAbsent(eq("spring"), eq("unoTest"), any(LocalDateTime.class))).willReturn(1);
+        given(hashtagRepository.findForUpdateByHashtagNameIn(Set.of("spring"))).willReturn(List.of(Hashtag.of("spring")));
+
+        // When
+        Set<Hashtag> actual = sut.findOrCreateHashtags(hashtagNames);
+
+        // Then
+        assertThat(actual)
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrder("java", "spring");
+        then(hashtagRepository).should(times(1)).insertIfAbsent(anyString(), anyString(), any(LocalDateTime.class));
+    }
+
+    @DisplayName("다른 요청이 같은 새 해시태그를 먼저 만들었으면, 새로 넣지 않고 먼저 만든 해시태그를 다시 읽는다.")
+    @Test
+    void givenHashtagCreatedConcurrently_whenFindingOrCreating_thenReadsExistingHashtag() {
+        // Given
+        Set<String> hashtagNames = Set.of("spring");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of());
+        given(hashtagRepository.insertIfAbsent(eq("spring"), eq("unoTest"), any(LocalDateTime.class))).willReturn(0);
+        given(hashtagRepository.findForUpdateByHashtagNameIn(Set.of("spring"))).willReturn(List.of(Hashtag.of("spring")));
+
+        // When
+        Set<Hashtag> actual = sut.findOrCreateHashtags(hashtagNames);
+
+        // Then
+        assertThat(actual)
+                .extracting(Hashtag::getHashtagName)
+                .containsExactly("spring");
+    }
+
+    @DisplayName("해시태그의 게시글 수를 늘리면, DB 를 갱신하고 해시태그 이벤트를 발행한다.")
+    @Test
+    void givenHashtags_whenIncreasingArticleCount_thenUpdatesAndPublishesEvent() {
+        // Given
+        Hashtag hashtag = Hashtag.of("java");
+        ReflectionTestUtils.setField(hashtag, "id", 1L);
+
+        // When
+        sut.increaseArticleCount(Set.of(hashtag));
+
+        // Then
+        then(hashtagRepository).should().adjustArticleCount(List.of(1L), 1);
+        then(eventPublisher).should().publishEvent(HashtagEvent.of(Set.of("java"), 1));
+    }
+
+    @DisplayName("해시태그 목록을 조회하면, 게시글이 달린 해시태그 이름을 '#' 을 붙여 반환한다.")
+    @Test
+    void givenNothing_whenSearchingHashtagNames_thenReturnsHashtagNamesInUse() {
+        // Given
+        given(hashtagRepository.findAllHashtagNamesInUse()).willReturn(List.of("java", "spring"));
+
+        // When
+        List<String> actual = sut.getHashtagNames();
+
+        // Then
+        assertThat(actual).containsExactly("#java", "#spring");
+    }
+
+}
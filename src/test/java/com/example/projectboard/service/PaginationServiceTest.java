@@ -1,5 +1,6 @@
 package com.example.projectboard.service;
 
+import com.example.projectboard.dto.ApproximatePage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -7,7 +8,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -51,4 +56,44 @@ class PaginationServiceTest {
         int bar_length = sut.currentBarLength();
         assertThat(bar_length).isEqualTo(5 );
     }
-}
\ No newline at end of file
+
+    @DisplayName("전체 건수의 하한만 아는 페이지를 주면, 건수 뒤에 + 를 붙여 표시한다.")
+    @Test
+    void givenApproximatePage_whenLabelingTotal_thenAppendsPlus() {
+        ApproximatePage<String> approximate = ApproximatePage.fromLookahead(Collections.nCopies(1_201, "a"), PageRequest.of(0, 10), 1_201, () -> 0L);
+        PageImpl<String> exact = new PageImpl<>(List.of("a"), PageRequest.of(0, 10), 1);
+
+        assertThat(sut.getTotalLabel(approximate)).isEqualTo("1,201+");
+        assertThat(sut.getTotalLabel(exact)).isEqualTo("1");
+    }
+
+    @DisplayName("다음 커서로 조회한 페이지를 주면, 이전/다음 커서를 모두 가진 페이지네이션 바를 만든다.")
+    @Test
+    void givenForwardSliceWithMore_whenCalculatingCursorBar_thenReturnsBothCursors() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b", "c"), PageRequest.of(0, 3), true);
+
+        PaginationService.CursorBar actual = sut.getCursorBar(slice, s -> s, false, true);
+
+        assertThat(actual).isEqualTo(new PaginationService.CursorBar("a", "c"));
+    }
+
+    @DisplayName("첫 페이지이면서 더 조회할 게 없으면, 이전/다음 커서가 없는 페이지네이션 바를 만든다.")
+    @Test
+    void givenFirstSliceWithoutMore_whenCalculatingCursorBar_thenReturnsNoCursors() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 3), false);
+
+        PaginationService.CursorBar actual = sut.getCursorBar(slice, s -> s, false, false);
+
+        assertThat(actual).isEqualTo(new PaginationService.CursorBar(null, null));
+    }
+
+    @DisplayName("이전 커서로 조회했고 더 최신 항목이 없으면, 다음 커서만 가진 페이지네이션 바를 만든다.")
+    @Test
+    void givenBackwardSliceWithoutMore_whenCalculatingCursorBar_thenReturnsOnlyNextCursor() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b", "c"), PageRequest.of(0, 3), false);
+
+        PaginationService.CursorBar actual = sut.getCursorBar(slice, s -> s, true, true);
+
+        assertThat(actual).isEqualTo(new PaginationService.CursorBar(null, "c"));
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.projectboard.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비즈니스 로직 - 동시 조회")
+class ParallelQueriesTest {
+
+    private final ParallelQueries sut = new ParallelQueries(TransactionOperations.withoutTransaction(), 2, Duration.ofSeconds(1));
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("독립된 조회를 동시에 실행하고, 모두 끝나면 결과를 돌려준다.")
+    @Test
+    void givenIndependentQueries_whenJoining_thenRunsThemConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        try (ParallelQueries.Scope scope = sut.open()) {
+            Supplier<String> first = scope.fork(() -> awaitOther(bothStarted, "first"));
+            Supplier<String> second = scope.fork(() -> awaitOther(bothStarted, "second"));
+            scope.join();
+
+            // Then
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo("second");
+        }
+    }
+
+    @DisplayName("조회 하나가 실패하면, 그 예외를 던지고 나머지 조회를 취소한다.")
+    @Test
+    void givenFailingQuery_whenJoining_thenThrowsAndCancelsOthers() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        try (ParallelQueries.Scope scope = sut.open()) {
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+            scope.fork(() -> {
+                throw new IllegalArgumentException("잘못된 조회");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 조회");
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("제한 시간 안에 끝나지 않으면, 시간 초과 예외를 던진다.")
+    @Test
+    void givenSlowQuery_whenJoining_thenThrowsTimeout() {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        try (ParallelQueries.Scope scope = sut.open()) {
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+
+            assertThatThrownBy(scope::join).isInstanceOf(QueryTimeoutException.class);
+        }
+    }
+
+    @DisplayName("동시 조회 한도가 차 있으면, 호출한 스레드에서 바로 실행한다.")
+    @Test
+    void givenNoPermitsLeft_whenForking_thenRunsOnCallerThread() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+
+        // When
+        try (ParallelQueries.Scope scope = sut.open()) {
+            scope.fork(() -> await(release));
+            scope.fork(() -> await(release));
+            Supplier<Thread> third = scope.fork(Thread::currentThread);
+            release.countDown();
+            scope.join();
+
+            // Then
+            assertThat(third.get()).isSameAs(caller);
+        }
+    }
+
+    @DisplayName("시간 초과로 취소된 조회가 아직 돌고 있으면, 끝날 때까지 동시 조회 한도를 차지한다.")
+    @Test
+    void givenCancelledQueryStillRunning_whenForking_thenRunsOnCallerThread() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        try (ParallelQueries.Scope scope = sut.open()) {
+            scope.fork(() -> awaitIgnoringInterrupt(release));
+            scope.fork(() -> awaitIgnoringInterrupt(release));
+            assertThatThrownBy(scope::join).isInstanceOf(QueryTimeoutException.class);
+        }
+
+        // When
+        try (ParallelQueries.Scope scope = sut.open()) {
+            Supplier<Thread> next = scope.fork(Thread::currentThread);
+            scope.join();
+
+            // Then
+            assertThat(next.get()).isSameAs(caller);
+        } finally {
+            release.countDown();
+        }
+    }
+
+
+    private String awaitOther(CountDownLatch bothStarted, String result) {
+        bothStarted.countDown();
+        await(bothStarted); // 다른 조회도 시작해야 끝나므로, 순차 실행이라면 시간 초과가 난다
+
+        return result;
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean awaitIgnoringInterrupt(CountDownLatch latch) { // 인터럽트에 반응하지 않는 JDBC 호출을 흉내 낸다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            try {
+                return latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ignored) {
+            }
+        }
+
+        return false;
+    }
+
+    private String sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+
+        return "slow";
+    }
+
+}
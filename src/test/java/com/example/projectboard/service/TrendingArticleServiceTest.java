@@ -0,0 +1,123 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.TrendingConfig.TrendingProperties;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleRankDto;
+import com.example.projectboard.repository.ArticleCommentRepository;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.example.projectboard.service.event.ArticleViewEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 인기글")
+@ExtendWith(MockitoExtension.class)
+class TrendingArticleServiceTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+
+    @DisplayName("같은 만큼 활동해도 최근 활동이 많은 게시글이 위에 오고, 점수는 반감기마다 절반이 된다.")
+    @Test
+    void givenOldAndRecentActivities_whenGettingTrendingArticles_thenRanksRecentFirst() {
+        // Given
+        TrendingArticleService sut = createService(10);
+        LocalDateTime now = LocalDateTime.now();
+        sut.addActivity(1L, 30.0, now.minusHours(12));
+        sut.addActivity(2L, 20.0, now);
+        given(articleRepository.findAllWithUserAccountByIdIn(anyCollection()))
+                .willReturn(List.of(createArticle(1L), createArticle(2L)));
+
+        // When
+        List<ArticleRankDto> trending = sut.getTrendingArticles();
+
+        // Then
+        assertThat(trending)
+                .extracting(rank -> rank.article().id(), ArticleRankDto::score)
+                .containsExactly(
+                        tuple(2L, 20L),
+                        tuple(1L, 15L)
+                );
+    }
+
+    @DisplayName("추적할 게시글 수를 넘으면, 점수가 가장 낮은 게시글을 버린다.")
+    @Test
+    void givenMoreArticlesThanMaxTracked_whenAddingActivity_thenDropsLowestScore() {
+        // Given
+        TrendingArticleService sut = createService(2);
+        LocalDateTime now = LocalDateTime.now();
+        sut.addActivity(1L, 3.0, now);
+        sut.addActivity(2L, 1.0, now);
+
+        // When
+        sut.onArticleViewEvent(ArticleViewEvent.of(Map.of(3L, 2L)));
+
+        // Then
+        assertThat(sut.trackedCount()).isEqualTo(2);
+        given(articleRepository.findAllWithUserAccountByIdIn(anyCollection()))
+                .willReturn(List.of(createArticle(1L), createArticle(3L)));
+        assertThat(sut.getTrendingArticles())
+                .extracting(rank -> rank.article().id())
+                .containsExactly(1L, 3L);
+    }
+
+    @DisplayName("게시글이 삭제되면, 인기글에서 뺀다.")
+    @Test
+    void givenDeletedArticle_whenHandlingArticleEvent_thenStopsTracking() {
+        // Given
+        TrendingArticleService sut = createService(10);
+        sut.addActivity(1L, 5.0, LocalDateTime.now());
+
+        // When
+        sut.onArticleEvent(ArticleEvent.ofDeleted(1L));
+
+        // Then
+        assertThat(sut.trackedCount()).isZero();
+        assertThat(sut.getTrendingArticles()).isEmpty();
+    }
+
+
+    private TrendingArticleService createService(int maxTracked) {
+        TrendingProperties properties = new TrendingProperties(
+                10,
+                maxTracked,
+                Duration.ofHours(12),
+                1.0,
+                5.0,
+                0.1,
+                Duration.ofDays(2),
+                Duration.ofSeconds(10)
+        );
+
+        return new TrendingArticleService(articleRepository, articleCommentRepository, properties, new SimpleMeterRegistry());
+    }
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(
+                UserAccount.of("uno", "password", "uno@email.com", "Uno", null),
+                "title",
+                "content",
+                "#java"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+
+}
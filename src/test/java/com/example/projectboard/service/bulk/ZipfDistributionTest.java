@@ -0,0 +1,41 @@
+package com.example.projectboard.service.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("시드 데이터 - 지프 분포")
+class ZipfDistributionTest {
+
+    @DisplayName("순위를 여러 번 뽑으면, 모두 범위 안에 있고 1위가 가장 많이 나온다.")
+    @Test
+    void givenDistribution_whenSampling_thenTopRankIsMostFrequent() {
+        // Given
+        ZipfDistribution sut = new ZipfDistribution(100, 1.1);
+        Random random = new Random(1L);
+        int[] frequencies = new int[101];
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            frequencies[sut.sample(random)]++;
+        }
+
+        // Then
+        assertThat(frequencies[0]).isZero();
+        assertThat(frequencies[1]).isGreaterThan(frequencies[2]);
+        assertThat(frequencies[2]).isGreaterThan(frequencies[50]);
+    }
+
+    @DisplayName("크기가 1보다 작으면, 예외를 던진다.")
+    @Test
+    void givenZeroSize_whenCreating_thenThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> new ZipfDistribution(0, 1.1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
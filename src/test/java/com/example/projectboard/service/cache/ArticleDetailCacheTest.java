@@ -0,0 +1,102 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.config.CacheConfig.ArticleDetailCacheProperties;
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import com.example.projectboard.service.event.ArticleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 상세 캐시")
+@ExtendWith(MockitoExtension.class)
+class ArticleDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @Mock private ArticleService articleService;
+    @Mock private ObjectProvider<ArticleDetailCacheStore> secondTierProvider;
+    @Mock private ArticleDetailCacheStore secondTier;
+
+    @DisplayName("같은 게시글 상세를 여러 번 조회하면, 서비스는 처음 한 번만 호출한다.")
+    @Test
+    void givenCachedArticle_whenSearchingRepeatedly_thenCallsServiceOnce() {
+        // Given
+        ArticleDetailCache sut = createCache(null);
+        ArticleWithCommentsDto expected = createArticleWithCommentsDto();
+        given(articleService.getArticleWithComments(1L, pageable)).willReturn(expected);
+
+        // When
+        sut.getArticleWithComments(1L, pageable);
+        ArticleWithCommentsDto actual = sut.getArticleWithComments(1L, pageable);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        then(articleService).should(times(1)).getArticleWithComments(1L, pageable);
+        assertThat(meterRegistry.get("board.article.detail.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("댓글이나 게시글 변경 이벤트를 받으면, 그 게시글의 캐시만 지운다.")
+    @Test
+    void givenChangeEvents_whenSearching_thenReloadsOnlyChangedArticle() {
+        // Given
+        ArticleDetailCache sut = createCache(null);
+        given(articleService.getArticleWithComments(anyLong(), eq(pageable))).willReturn(createArticleWithCommentsDto());
+        sut.getArticleWithComments(1L, pageable);
+        sut.getArticleWithComments(2L, pageable);
+
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 1L));
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 2L, "title", "content", null, null));
+        sut.getArticleWithComments(1L, pageable);
+        sut.getArticleWithComments(2L, pageable);
+
+        // Then
+        then(articleService).should(times(2)).getArticleWithComments(1L, pageable);
+        then(articleService).should(times(1)).getArticleWithComments(2L, pageable);
+    }
+
+    @DisplayName("2차 저장소에 있으면, 서비스를 호출하지 않는다.")
+    @Test
+    void givenSecondTier_whenSearching_thenReturnsFromSecondTier() {
+        // Given
+        ArticleDetailCache sut = createCache(secondTier);
+        ArticleWithCommentsDto expected = createArticleWithCommentsDto();
+        given(secondTier.get(eq(1L), anyString())).willReturn(Optional.of(expected));
+
+        // When
+        ArticleWithCommentsDto actual = sut.getArticleWithComments(1L, pageable);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        then(articleService).shouldHaveNoInteractions();
+    }
+
+
+    private ArticleDetailCache createCache(ArticleDetailCacheStore store) {
+        given(secondTierProvider.getIfAvailable()).willReturn(store);
+        ArticleDetailCacheProperties properties = new ArticleDetailCacheProperties(true, 100, 5, Duration.ofMinutes(10));
+
+        return new ArticleDetailCache(articleService, secondTierProvider, properties, meterRegistry);
+    }
+
+    private ArticleWithCommentsDto createArticleWithCommentsDto() {
+        return ArticleWithCommentsDto.of(1L, null, Set.of(), "title", "content", "#java", null, "uno", null, "uno");
+    }
+
+}
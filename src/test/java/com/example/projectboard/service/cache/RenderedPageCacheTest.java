@@ -0,0 +1,63 @@
+package com.example.projectboard.service.cache;
+
+import com.example.projectboard.config.CacheConfig.RenderedPageCacheProperties;
+import com.example.projectboard.service.event.ArticleCommentEvent;
+import com.example.projectboard.service.event.ArticleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 렌더링 페이지 캐시")
+class RenderedPageCacheTest {
+
+    private final RenderedPageCache sut = new RenderedPageCache(
+            new RenderedPageCacheProperties(true, 100, Duration.ofMinutes(5)),
+            new SimpleMeterRegistry()
+    );
+
+    @DisplayName("댓글이 수정되면, 목록 페이지 키는 그대로다.")
+    @Test
+    void givenCommentUpdatedEvent_whenMakingListKey_thenKeyUnchanged() {
+        // Given
+        String listKey = sut.listKey("/articles");
+
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.UPDATED, 1L));
+
+        // Then
+        assertThat(sut.listKey("/articles")).isEqualTo(listKey);
+    }
+
+    @DisplayName("댓글이 달리면, 댓글 수가 보이는 목록 페이지 키가 바뀐다.")
+    @Test
+    void givenCommentCreatedEvent_whenMakingListKey_thenKeyChanges() {
+        // Given
+        String listKey = sut.listKey("/articles");
+
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.Type.CREATED, 1L));
+
+        // Then
+        assertThat(sut.listKey("/articles")).isNotEqualTo(listKey);
+    }
+
+    @DisplayName("게시글이 삭제되면, 이전 목록 페이지는 더 이상 조회되지 않는다.")
+    @Test
+    void givenArticleEvent_whenGettingPage_thenPreviousListPageIsNotFound() {
+        // Given
+        String listKey = sut.listKey("/articles?page=1");
+        sut.put(listKey, new RenderedPageCache.RenderedPage("text/html", new byte[0], null, null));
+
+        // When
+        sut.onArticleEvent(ArticleEvent.ofDeleted(1L));
+
+        // Then
+        assertThat(sut.listKey("/articles?page=1")).isNotEqualTo(listKey);
+        assertThat(sut.get(sut.listKey("/articles?page=1"))).isEmpty();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.dto.ArticleSearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시글 검색 색인")
+class InMemoryArticleSearchIndexTest {
+
+    private final InMemoryArticleSearchIndex sut = new InMemoryArticleSearchIndex(new ArticleTokenizer());
+
+    @DisplayName("색인된 게시글을 검색하면, 모든 검색어 토큰을 포함한 게시글 ID 를 작성일시 순으로 반환한다.")
+    @Test
+    void givenIndexedArticles_whenSearching_thenReturnsMatchingArticleIdsInCreatedAtOrder() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        sut.index(ArticleSearchDocument.of(1L, "스프링 부트 입문", "content", now.minusDays(2)));
+        sut.index(ArticleSearchDocument.of(2L, "Spring Boot 와 스프링부트", "content", now.minusDays(1)));
+        sut.index(ArticleSearchDocument.of(3L, "자바 기초", "content", now));
+
+        // When
+        List<Long> korean = sut.search(SearchType.TITLE, "스프링", Sort.Direction.DESC);
+        List<Long> english = sut.search(SearchType.TITLE, "spring boot", Sort.Direction.ASC);
+
+        // Then
+        assertThat(korean).containsExactly(2L, 1L);
+        assertThat(english).containsExactly(2L);
+    }
+
+    @DisplayName("영문/숫자 검색어는 단어 앞부분으로, 한글 검색어는 한 글자도 부분 문자열로 찾는다. 영문 단어 중간만 일치하면 찾지 않는다.")
+    @Test
+    void givenIndexedArticles_whenSearchingPartialTerms_thenMatchesPrefixesAndHangulSubstrings() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        sut.index(ArticleSearchDocument.of(1L, "Spring 2023 정리", "content", now.minusDays(1)));
+        sut.index(ArticleSearchDocument.of(2L, "자바 기초", "content", now));
+
+        // When
+        List<Long> englishPrefix = sut.search(SearchType.TITLE, "spr", Sort.Direction.DESC);
+        List<Long> digitPrefix = sut.search(SearchType.TITLE, "202", Sort.Direction.DESC);
+        List<Long> englishInfix = sut.search(SearchType.TITLE, "ring", Sort.Direction.DESC);
+        List<Long> hangulSyllable = sut.search(SearchType.TITLE, "바", Sort.Direction.DESC);
+        List<Long> hangulLastSyllable = sut.search(SearchType.TITLE, "리", Sort.Direction.DESC);
+
+        // Then
+        assertThat(englishPrefix).containsExactly(1L);
+        assertThat(digitPrefix).containsExactly(1L);
+        assertThat(englishInfix).isEmpty();
+        assertThat(hangulSyllable).containsExactly(2L);
+        assertThat(hangulLastSyllable).containsExactly(1L);
+    }
+
+    @DisplayName("여러 단어나 기호가 섞인 검색어, 토큰이 없거나 짧은 영문/숫자 검색어는 색인으로 찾지 않고 DB 검색에 맡긴다.")
+    @Test
+    void givenQueriesWithDifferentSemantics_whenCheckingSupport_thenSupportsOnlySingleLongEnoughWords() {
+        // When & Then
+        assertThat(sut.supports(SearchType.TITLE, "spring")).isTrue();
+        assertThat(sut.supports(SearchType.TITLE, "스프링부트")).isTrue();
+        assertThat(sut.supports(SearchType.TITLE, "바")).isTrue();
+        assertThat(sut.supports(SearchType.TITLE, "spring boot")).isFalse();
+        assertThat(sut.supports(SearchType.TITLE, "c++")).isFalse();
+        assertThat(sut.supports(SearchType.TITLE, "!!")).isFalse();
+        assertThat(sut.supports(SearchType.TITLE, "j")).isFalse();
+        assertThat(sut.supports(SearchType.TITLE, "ja")).isFalse();
+        assertThat(sut.supports(SearchType.HASHTAG, "spring")).isFalse();
+    }
+
+    @DisplayName("게시글을 수정/삭제하면, 이전 내용은 더 이상 검색되지 않는다.")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenReturnsOnlyCurrentContent() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        sut.index(ArticleSearchDocument.of(1L, "java", "old content", now));
+        sut.index(ArticleSearchDocument.of(2L, "java", "content", now));
+
+        // When
+        sut.index(ArticleSearchDocument.of(1L, "java", "new content", now));
+        sut.remove(2L);
+
+        // Then
+        assertThat(sut.search(SearchType.CONTENT, "old", Sort.Direction.DESC)).isEmpty();
+        assertThat(sut.search(SearchType.CONTENT, "new", Sort.Direction.DESC)).containsExactly(1L);
+        assertThat(sut.search(SearchType.TITLE, "java", Sort.Direction.DESC)).containsExactly(1L);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("최초 적재 도중 삭제된 게시글은, 적재 데이터로 되살아나지 않는다.")
+    @Test
+    void givenArticleRemovedWhileLoading_whenLoading_thenSkipsArticle() {
+        // Given
+        sut.remove(1L);
+
+        // When
+        sut.load(ArticleSearchDocument.of(1L, "java", "content", LocalDateTime.now()));
+        sut.markReady();
+
+        // Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.search(SearchType.TITLE, "java", Sort.Direction.DESC)).isEmpty();
+    }
+
+}
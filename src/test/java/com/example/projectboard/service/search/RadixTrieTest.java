@@ -0,0 +1,55 @@
+package com.example.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 자동완성 접두사 트리")
+class RadixTrieTest {
+
+    private final RadixTrie sut = new RadixTrie();
+
+    @DisplayName("접두사로 조회하면, 그 접두사로 시작하는 키를 가중치가 큰 순으로 최대 N 개 반환한다.")
+    @Test
+    void givenWeightedKeys_whenQueryingTop_thenReturnsHighestWeightsFirst() {
+        // Given
+        sut.add("spring", 5);
+        sut.add("springboot", 9);
+        sut.add("spa", 9);
+        sut.add("sql", 20);
+        sut.add("java", 100);
+
+        // When & Then
+        assertThat(sut.top("sp", 10)).containsExactly(
+                new RadixTrie.Entry("spa", 9),
+                new RadixTrie.Entry("springboot", 9),
+                new RadixTrie.Entry("spring", 5)
+        );
+        assertThat(sut.top("s", 2)).containsExactly(new RadixTrie.Entry("sql", 20), new RadixTrie.Entry("spa", 9));
+        assertThat(sut.top("sprin", 10)).extracting(RadixTrie.Entry::key).containsExactly("springboot", "spring");
+        assertThat(sut.top("spx", 10)).isEmpty();
+        assertThat(sut.size()).isEqualTo(5);
+    }
+
+    @DisplayName("가중치가 줄어 0 이 되면 키를 지우고, 남은 키의 순위도 새 가중치를 따른다.")
+    @Test
+    void givenDecreasedWeights_whenQueryingTop_thenReflectsRemovalAndNewOrder() {
+        // Given
+        sut.add("스프링", 3);
+        sut.add("스프링부트", 10);
+        sut.add("스칼라", 1);
+
+        // When
+        sut.add("스프링부트", -10);
+        sut.add("스프링", -1);
+        sut.add("없는키", -1);
+
+        // Then
+        assertThat(sut.top("스", 10)).containsExactly(new RadixTrie.Entry("스프링", 2), new RadixTrie.Entry("스칼라", 1));
+        assertThat(sut.get("스프링부트")).isZero();
+        assertThat(sut.get("없는키")).isZero();
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.config.SearchConfig;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.dto.ArticleTitle;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.service.event.ArticleEvent;
+import com.example.projectboard.service.event.HashtagEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 자동완성 색인")
+@ExtendWith(MockitoExtension.class)
+class SuggestionIndexTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private HashtagRepository hashtagRepository;
+
+    @DisplayName("색인을 적재하면, 해시태그와 제목 단어를 게시글 수가 많은 순으로 제안한다.")
+    @Test
+    void givenLoadedIndex_whenSuggesting_thenReturnsHashtagsAndTitleTermsByArticleCount() {
+        // Given
+        SuggestionIndex sut = createLoadedIndex();
+
+        // When & Then
+        assertThat(sut.suggestHashtags("#SP", 10)).containsExactly(new RadixTrie.Entry("spring", 7), new RadixTrie.Entry("spa", 2));
+        assertThat(sut.suggestTitleTerms("Spr", 10)).containsExactly(new RadixTrie.Entry("spring", 2), new RadixTrie.Entry("springboot", 1));
+        assertThat(sut.suggestTitleTerms("", 10)).isEmpty();
+    }
+
+    @DisplayName("게시글이 수정/삭제되거나 해시태그 게시글 수가 바뀌면, 제안 결과에 바로 반영한다.")
+    @Test
+    void givenArticleAndHashtagEvents_whenSuggesting_thenReflectsChanges() {
+        // Given
+        SuggestionIndex sut = createLoadedIndex();
+
+        // When
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.UPDATED, 1L, "Java 입문", "content", null, LocalDateTime.now()));
+        sut.onArticleEvent(ArticleEvent.ofDeleted(2L));
+        sut.onHashtagEvent(HashtagEvent.of(Set.of("spa"), 6));
+
+        // Then
+        assertThat(sut.suggestTitleTerms("spr", 10)).isEmpty();
+        assertThat(sut.suggestTitleTerms("ja", 10)).containsExactly(new RadixTrie.Entry("java", 1));
+        assertThat(sut.suggestHashtags("sp", 10)).containsExactly(new RadixTrie.Entry("spa", 8), new RadixTrie.Entry("spring", 7));
+    }
+
+
+    private SuggestionIndex createLoadedIndex() {
+        given(articleRepository.findTitles(anyLong(), anyInt())).willReturn(List.of(
+                ArticleTitle.of(1L, "Spring 시작하기"),
+                ArticleTitle.of(2L, "SpringBoot 와 spring")
+        ));
+        given(hashtagRepository.findHashtagsInUse(Pageable.unpaged())).willReturn(List.of(
+                createHashtag("spring", 7L),
+                createHashtag("spa", 2L)
+        ));
+        SuggestionIndex sut = new SuggestionIndex(articleRepository, hashtagRepository, new SearchConfig.SearchProperties(true, 1000));
+        sut.build();
+
+        return sut;
+    }
+
+    private Hashtag createHashtag(String hashtagName, long articleCount) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "articleCount", articleCount);
+        return hashtag;
+    }
+
+}
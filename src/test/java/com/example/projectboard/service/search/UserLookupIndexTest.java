@@ -0,0 +1,99 @@
+package com.example.projectboard.service.search;
+
+import com.example.projectboard.config.SearchConfig;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.event.UserAccountEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 유저 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class UserLookupIndexTest {
+
+    @Mock private UserAccountRepository userAccountRepository;
+
+    @DisplayName("색인을 적재하면, 유저 ID/닉네임의 부분 일치를 대소문자 구분 없이 찾는다.")
+    @Test
+    void givenLoadedIndex_whenFindingUserIds_thenReturnsCaseInsensitivePartialMatches() {
+        // Given
+        given(userAccountRepository.findAll()).willReturn(List.of(
+                UserAccount.of("uno", "pw", "uno@mail.com", "Uno Kim", null),
+                UserAccount.of("unoKim2", "pw", "kim@mail.com", "스프링러", null),
+                UserAccount.of("dos", "pw", "dos@mail.com", "Dos", null)
+        ));
+        UserLookupIndex sut = createIndex(true);
+        sut.build();
+
+        // When & Then
+        assertThat(sut.findUserIds(SearchType.ID, "UNO")).hasValue(Set.of("uno", "unoKim2"));
+        assertThat(sut.findUserIds(SearchType.ID, "kim")).hasValue(Set.of("unoKim2"));
+        assertThat(sut.findUserIds(SearchType.NICKNAME, "o k")).hasValue(Set.of("uno"));
+        assertThat(sut.findUserIds(SearchType.NICKNAME, "스프")).hasValue(Set.of("unoKim2"));
+        assertThat(sut.findUserIds(SearchType.NICKNAME, "nobody")).hasValue(Set.of());
+    }
+
+    @DisplayName("유저가 바뀌거나 삭제되면, 이전 닉네임으로는 더 이상 찾지 않는다.")
+    @Test
+    void givenChangedAndDeletedUsers_whenFindingUserIds_thenReturnsOnlyCurrentState() {
+        // Given
+        given(userAccountRepository.findAll()).willReturn(List.of(
+                UserAccount.of("uno", "pw", "uno@mail.com", "oldname", null),
+                UserAccount.of("dos", "pw", "dos@mail.com", "dosname", null)
+        ));
+        UserLookupIndex sut = createIndex(true);
+        sut.build();
+
+        // When
+        sut.onUserAccountEvent(new UserAccountEvent(UserAccountEvent.Type.SAVED, "uno", "newname"));
+        sut.onUserAccountEvent(new UserAccountEvent(UserAccountEvent.Type.DELETED, "dos", "dosname"));
+
+        // Then
+        assertThat(sut.findUserIds(SearchType.NICKNAME, "oldname")).hasValue(Set.of());
+        assertThat(sut.findUserIds(SearchType.NICKNAME, "name")).hasValue(Set.of("uno"));
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("최초 적재 도중 삭제된 유저는, 적재 데이터로 되살아나지 않는다.")
+    @Test
+    void givenUserDeletedWhileLoading_whenBuilding_thenSkipsUser() {
+        // Given
+        given(userAccountRepository.findAll()).willReturn(List.of(UserAccount.of("uno", "pw", "uno@mail.com", "Uno", null)));
+        UserLookupIndex sut = createIndex(true);
+        sut.onUserAccountEvent(new UserAccountEvent(UserAccountEvent.Type.DELETED, "uno", "Uno"));
+
+        // When
+        sut.build();
+
+        // Then
+        assertThat(sut.findUserIds(SearchType.ID, "uno")).hasValue(Set.of());
+    }
+
+    @DisplayName("색인이 꺼져 있거나 지원하지 않는 검색 유형이면, DB 검색에 맡기도록 비어 있는 결과를 준다.")
+    @Test
+    void givenDisabledIndexOrUnsupportedType_whenFindingUserIds_thenReturnsEmpty() {
+        // Given
+        UserLookupIndex disabled = createIndex(false);
+        disabled.build();
+
+        // When & Then
+        assertThat(disabled.findUserIds(SearchType.ID, "uno")).isEmpty();
+        assertThat(disabled.supports(SearchType.TITLE)).isFalse();
+    }
+
+
+    private UserLookupIndex createIndex(boolean indexEnabled) {
+        return new UserLookupIndex(userAccountRepository, new SearchConfig.SearchProperties(indexEnabled, 1000));
+    }
+
+}